@@ -1,6 +1,10 @@
 package com.mycompany.myapp.config;
 
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 
 /**
  * Properties specific to My App 2.
@@ -10,7 +14,561 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  */
 @ConfigurationProperties(prefix = "application", ignoreUnknownFields = false)
 public class ApplicationProperties {
+
+    private final Bulk bulk = new Bulk();
+
+    private final Board board = new Board();
+
+    private final Export export = new Export();
+
+    private final TokenCache tokenCache = new TokenCache();
+
+    private final Cache cache = new Cache();
+
+    private final WarmUp warmUp = new WarmUp();
+
+    private final QueryCache queryCache = new QueryCache();
+
+    private final Changes changes = new Changes();
+
+    private final Events events = new Events();
+
+    private final VirtualThreads virtualThreads = new VirtualThreads();
+
+    private final Async async = new Async();
+
+    private final Mail mail = new Mail();
+
     // jhipster-needle-application-properties-property
+
+    public Bulk getBulk() {
+        return bulk;
+    }
+
+    public Board getBoard() {
+        return board;
+    }
+
+    public Export getExport() {
+        return export;
+    }
+
+    public TokenCache getTokenCache() {
+        return tokenCache;
+    }
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    public WarmUp getWarmUp() {
+        return warmUp;
+    }
+
+    public QueryCache getQueryCache() {
+        return queryCache;
+    }
+
+    public Changes getChanges() {
+        return changes;
+    }
+
+    public Events getEvents() {
+        return events;
+    }
+
+    public VirtualThreads getVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public Async getAsync() {
+        return async;
+    }
+
+    public Mail getMail() {
+        return mail;
+    }
+
     // jhipster-needle-application-properties-property-getter
+
+    public static class Bulk {
+
+        /**
+         * Number of items written in a single transaction by the bulk endpoints.
+         */
+        private int chunkSize = 500;
+
+        /**
+         * Maximum number of items accepted in a single bulk request.
+         */
+        private int maxItems = 10000;
+
+        public int getChunkSize() {
+            return chunkSize;
+        }
+
+        public void setChunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+
+        public int getMaxItems() {
+            return maxItems;
+        }
+
+        public void setMaxItems(int maxItems) {
+            this.maxItems = maxItems;
+        }
+    }
+
+    public static class Board {
+
+        /**
+         * Name of the board template whose lines are created with a new board when no template is requested.
+         */
+        private String defaultTemplate = "default";
+
+        public String getDefaultTemplate() {
+            return defaultTemplate;
+        }
+
+        public void setDefaultTemplate(String defaultTemplate) {
+            this.defaultTemplate = defaultTemplate;
+        }
+    }
+
+    public static class Export {
+
+        /**
+         * Number of rows fetched per database round trip, and kept in the persistence context, by the export endpoints.
+         */
+        private int fetchSize = 500;
+
+        public int getFetchSize() {
+            return fetchSize;
+        }
+
+        public void setFetchSize(int fetchSize) {
+            this.fetchSize = fetchSize;
+        }
+    }
+
+    public static class TokenCache {
+
+        /**
+         * Maximum number of verified JWT tokens whose authentication is cached; {@code 0} disables the cache.
+         */
+        private int maxEntries = 10000;
+
+        public int getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+    }
+
+    public static class Cache {
+
+        /**
+         * Settings of individual caches, by cache name, overriding the {@code jhipster.cache.ehcache} defaults. Names
+         * containing dots are written in brackets, as in {@code '[com.mycompany.myapp.domain.Card]'}.
+         */
+        private final Map<String, Region> regions = new LinkedHashMap<>();
+
+        /**
+         * Directory holding the disk tier of the caches which have a {@code disk-size}.
+         */
+        private String persistenceDirectory;
+
+        public Map<String, Region> getRegions() {
+            return regions;
+        }
+
+        public String getPersistenceDirectory() {
+            return persistenceDirectory;
+        }
+
+        public void setPersistenceDirectory(String persistenceDirectory) {
+            this.persistenceDirectory = persistenceDirectory;
+        }
+
+        public static class Region {
+
+            /**
+             * Maximum number of entries held on heap; defaults to {@code jhipster.cache.ehcache.max-entries}.
+             */
+            private Long maxEntries;
+
+            /**
+             * Time after which an entry expires once written; defaults to
+             * {@code jhipster.cache.ehcache.time-to-live-seconds}, unless {@code time-to-idle} is set.
+             */
+            private Duration timeToLive;
+
+            /**
+             * Time after which an entry expires once last read or written. When {@code time-to-live} is set too, a
+             * write sets the expiration to the time to live and a read to the time to idle.
+             */
+            private Duration timeToIdle;
+
+            /**
+             * Size of the off-heap tier, outside of the garbage collected heap, holding the entries evicted from the
+             * heap; it must be larger than the heap tier and fit in {@code -XX:MaxDirectMemorySize}.
+             */
+            private DataSize offHeapSize;
+
+            /**
+             * Size of the disk tier, in {@code application.cache.persistence-directory}, holding the entries evicted
+             * from the faster tiers; it must be larger than them.
+             */
+            private DataSize diskSize;
+
+            /**
+             * Whether the disk tier is kept across restarts. Only safe when the database is not written while the
+             * application is stopped, since the cached entities are not checked against it.
+             */
+            private boolean diskPersistent;
+
+            public Long getMaxEntries() {
+                return maxEntries;
+            }
+
+            public void setMaxEntries(Long maxEntries) {
+                this.maxEntries = maxEntries;
+            }
+
+            public Duration getTimeToLive() {
+                return timeToLive;
+            }
+
+            public void setTimeToLive(Duration timeToLive) {
+                this.timeToLive = timeToLive;
+            }
+
+            public Duration getTimeToIdle() {
+                return timeToIdle;
+            }
+
+            public void setTimeToIdle(Duration timeToIdle) {
+                this.timeToIdle = timeToIdle;
+            }
+
+            public DataSize getOffHeapSize() {
+                return offHeapSize;
+            }
+
+            public void setOffHeapSize(DataSize offHeapSize) {
+                this.offHeapSize = offHeapSize;
+            }
+
+            public DataSize getDiskSize() {
+                return diskSize;
+            }
+
+            public void setDiskSize(DataSize diskSize) {
+                this.diskSize = diskSize;
+            }
+
+            public boolean isDiskPersistent() {
+                return diskPersistent;
+            }
+
+            public void setDiskPersistent(boolean diskPersistent) {
+                this.diskPersistent = diskPersistent;
+            }
+        }
+    }
+
+    public static class WarmUp {
+
+        /**
+         * Whether the caches are warmed up once the application is started.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Number of boards, the most recently created, loaded with their lines and cards.
+         */
+        private int boards = 50;
+
+        /**
+         * Number of activated users, the most recently modified, loaded with their authorities.
+         */
+        private int users = 100;
+
+        /**
+         * Time after which the application reports ready even if the warm-up is not done.
+         */
+        private Duration timeout = Duration.ofMinutes(2);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getBoards() {
+            return boards;
+        }
+
+        public void setBoards(int boards) {
+            this.boards = boards;
+        }
+
+        public int getUsers() {
+            return users;
+        }
+
+        public void setUsers(int users) {
+            this.users = users;
+        }
+
+        public Duration getTimeout() {
+            return timeout;
+        }
+
+        public void setTimeout(Duration timeout) {
+            this.timeout = timeout;
+        }
+    }
+
+    public static class QueryCache {
+
+        /**
+         * Whether the pages of cards and lines found by criteria are cached; the size and expiry of the caches are
+         * set by {@code application.cache.regions}.
+         */
+        private boolean enabled = false;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    public static class Changes {
+
+        /**
+         * How far before the requested time the changes of a board are read again, so that transactions which were
+         * still running at the previous request, and committed changes dated before it, are not missed.
+         */
+        private Duration overlap = Duration.ofSeconds(10);
+
+        /**
+         * How long deletions are kept; clients which last synced a board earlier must reload it.
+         */
+        private Duration tombstoneRetention = Duration.ofDays(30);
+
+        public Duration getOverlap() {
+            return overlap;
+        }
+
+        public void setOverlap(Duration overlap) {
+            this.overlap = overlap;
+        }
+
+        public Duration getTombstoneRetention() {
+            return tombstoneRetention;
+        }
+
+        public void setTombstoneRetention(Duration tombstoneRetention) {
+            this.tombstoneRetention = tombstoneRetention;
+        }
+    }
+    public static class Events {
+
+        /**
+         * Number of events waiting to be sent to a client watching a board; a client which falls further behind is
+         * disconnected, it reconnects and reads the changes it missed from {@code GET /api/boards/:id/changes}.
+         */
+        private int queueCapacity = 256;
+
+        /**
+         * How long a client stays connected to the events of a board before it has to reconnect.
+         */
+        private Duration timeout = Duration.ofMinutes(30);
+
+        /**
+         * Number of threads sending the events to the clients, apart from the task executor.
+         */
+        private int sendThreads = 4;
+
+        /**
+         * How long sending an event to a client may block before the client is disconnected, checked along with the
+         * heartbeat of the connections.
+         */
+        private Duration sendTimeout = Duration.ofSeconds(10);
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public Duration getTimeout() {
+            return timeout;
+        }
+
+        public void setTimeout(Duration timeout) {
+            this.timeout = timeout;
+        }
+
+        public int getSendThreads() {
+            return sendThreads;
+        }
+
+        public void setSendThreads(int sendThreads) {
+            this.sendThreads = sendThreads;
+        }
+
+        public Duration getSendTimeout() {
+            return sendTimeout;
+        }
+
+        public void setSendTimeout(Duration sendTimeout) {
+            this.sendTimeout = sendTimeout;
+        }
+    }
+
+    public static class VirtualThreads {
+
+        /**
+         * Whether the requests and the {@code @Async} tasks run on virtual threads, which needs Java 21 or later.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Number of database connections used at once, {@code 0} for the maximum size of the connection pool.
+         */
+        private int connectionPermits = 0;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getConnectionPermits() {
+            return connectionPermits;
+        }
+
+        public void setConnectionPermits(int connectionPermits) {
+            this.connectionPermits = connectionPermits;
+        }
+    }
+
+    public static class Async {
+
+        /**
+         * What happens to an {@code @Async} task, or a task submitted to the {@code taskExecutor}, while all the
+         * threads of {@code spring.task.execution.pool} are busy and its queue is full.
+         */
+        public enum RejectionPolicy {
+            /**
+             * The task runs in the submitting thread, which slows the submitter down.
+             */
+            CALLER_RUNS,
+            /**
+             * The submission fails with a {@link org.springframework.core.task.TaskRejectedException}.
+             */
+            ABORT,
+            /**
+             * The task is dropped.
+             */
+            DISCARD,
+            /**
+             * The oldest queued task is dropped to make room for the new one.
+             */
+            DISCARD_OLDEST,
+        }
+
+        private RejectionPolicy rejectionPolicy = RejectionPolicy.ABORT;
+
+        public RejectionPolicy getRejectionPolicy() {
+            return rejectionPolicy;
+        }
+
+        public void setRejectionPolicy(RejectionPolicy rejectionPolicy) {
+            this.rejectionPolicy = rejectionPolicy;
+        }
+    }
+
+    public static class Mail {
+
+        /**
+         * Time between the end of a delivery of the queued emails and the start of the next one.
+         */
+        private Duration flushInterval = Duration.ofSeconds(5);
+
+        /**
+         * Number of emails sent over a single SMTP connection.
+         */
+        private int batchSize = 50;
+
+        /**
+         * Number of emails waiting to be sent; emails queued beyond are dropped.
+         */
+        private int queueCapacity = 10000;
+
+        /**
+         * Number of attempts to send an email before it is dropped.
+         */
+        private int maxAttempts = 5;
+
+        /**
+         * Time before the first retry of an email, doubled by each further attempt.
+         */
+        private Duration retryBackoff = Duration.ofSeconds(30);
+
+        public Duration getFlushInterval() {
+            return flushInterval;
+        }
+
+        public void setFlushInterval(Duration flushInterval) {
+            this.flushInterval = flushInterval;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public int getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        public void setMaxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
+
+        public Duration getRetryBackoff() {
+            return retryBackoff;
+        }
+
+        public void setRetryBackoff(Duration retryBackoff) {
+            this.retryBackoff = retryBackoff;
+        }
+    }
     // jhipster-needle-application-properties-property-class
 }
@@ -1,39 +1,99 @@
 package com.mycompany.myapp.config;
 
+import com.mycompany.myapp.service.MailOutbox;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
 import java.util.concurrent.Executor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
 import org.springframework.aop.interceptor.SimpleAsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.task.TaskExecutionProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.support.TaskExecutorAdapter;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
 import tech.jhipster.async.ExceptionHandlingAsyncTaskExecutor;
 
 @Configuration
 @EnableAsync
 @EnableScheduling
 @Profile("!testdev & !testprod")
-public class AsyncConfiguration implements AsyncConfigurer {
+public class AsyncConfiguration implements AsyncConfigurer, SchedulingConfigurer {
+
+    private static final String TASK_EXECUTOR = "taskExecutor";
+
+    private static final String BOARD_EVENT_EXECUTOR = "boardEventExecutor";
+
+    private static final String BACKGROUND_EXECUTOR = "backgroundExecutor";
+
+    private static final String MAIL_EXECUTOR = "mailExecutor";
+
+    /**
+     * Threads of the background executor, which runs occasional maintenance such as rebalancing the positions of a line.
+     */
+    private static final int BACKGROUND_POOL_SIZE = 2;
+
+    /**
+     * Tasks queued for the background executor, further ones are rejected and left to their next trigger.
+     */
+    private static final int BACKGROUND_QUEUE_CAPACITY = 1000;
+
+    /**
+     * Sending tasks queued for the board events; there is at most one per client.
+     */
+    private static final int BOARD_EVENT_QUEUE_CAPACITY = 10000;
 
     private final Logger log = LoggerFactory.getLogger(AsyncConfiguration.class);
 
     private final TaskExecutionProperties taskExecutionProperties;
 
-    public AsyncConfiguration(TaskExecutionProperties taskExecutionProperties) {
+    private final ApplicationProperties applicationProperties;
+
+    private final MeterRegistry meterRegistry;
+
+    private final ObjectProvider<Executor> virtualThreadExecutor;
+
+    private final ObjectProvider<MailOutbox> mailOutbox;
+
+    public AsyncConfiguration(
+        TaskExecutionProperties taskExecutionProperties,
+        ApplicationProperties applicationProperties,
+        MeterRegistry meterRegistry,
+        @Qualifier(VirtualThreadsConfiguration.VIRTUAL_THREAD_EXECUTOR) ObjectProvider<Executor> virtualThreadExecutor,
+        ObjectProvider<MailOutbox> mailOutbox
+    ) {
         this.taskExecutionProperties = taskExecutionProperties;
+        this.applicationProperties = applicationProperties;
+        this.meterRegistry = meterRegistry;
+        this.virtualThreadExecutor = virtualThreadExecutor;
+        this.mailOutbox = mailOutbox;
     }
 
     @Override
-    @Bean(name = "taskExecutor")
+    @Bean(name = TASK_EXECUTOR)
     public Executor getAsyncExecutor() {
+        Executor virtualThreads = virtualThreadExecutor.getIfAvailable();
+        if (virtualThreads != null) {
+            log.debug("Creating Async Task Executor on virtual threads");
+            // one thread per task, there is neither pool nor queue to publish, only the executions
+            Executor timed = ExecutorServiceMetrics.monitor(meterRegistry, virtualThreads, TASK_EXECUTOR);
+            return new ExceptionHandlingAsyncTaskExecutor(new TaskExecutorAdapter(timed));
+        }
         log.debug("Creating Async Task Executor");
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        ThreadPoolTaskExecutor executor = new MeteredThreadPoolTaskExecutor(
+            meterRegistry,
+            TASK_EXECUTOR,
+            applicationProperties.getAsync().getRejectionPolicy()
+        );
         executor.setCorePoolSize(taskExecutionProperties.getPool().getCoreSize());
         executor.setMaxPoolSize(taskExecutionProperties.getPool().getMaxSize());
         executor.setQueueCapacity(taskExecutionProperties.getPool().getQueueCapacity());
@@ -41,6 +101,75 @@ public class AsyncConfiguration implements AsyncConfigurer {
         return new ExceptionHandlingAsyncTaskExecutor(executor);
     }
 
+    /**
+     * The executor sending the board events to their clients, so that clients blocking its threads do not block the
+     * {@code @Async} tasks; a client whose task is rejected is disconnected.
+     */
+    @Bean(name = BOARD_EVENT_EXECUTOR)
+    public Executor boardEventExecutor() {
+        log.debug("Creating Board Event Executor");
+        ThreadPoolTaskExecutor executor = new MeteredThreadPoolTaskExecutor(
+            meterRegistry,
+            BOARD_EVENT_EXECUTOR,
+            ApplicationProperties.Async.RejectionPolicy.ABORT
+        );
+        executor.setCorePoolSize(applicationProperties.getEvents().getSendThreads());
+        executor.setMaxPoolSize(applicationProperties.getEvents().getSendThreads());
+        executor.setQueueCapacity(BOARD_EVENT_QUEUE_CAPACITY);
+        executor.setThreadNamePrefix("board-events-");
+        return executor;
+    }
+
+    /**
+     * The executor of the fire-and-forget tasks submitted by the application, such as the cache warm-up or the
+     * rebalancing of the positions of a line once a move commits: a task rejected as it is full is not run by the
+     * submitting thread, which may be a request thread completing its transaction.
+     */
+    @Bean(name = BACKGROUND_EXECUTOR)
+    public Executor backgroundExecutor() {
+        log.debug("Creating Background Executor");
+        ThreadPoolTaskExecutor executor = new MeteredThreadPoolTaskExecutor(
+            meterRegistry,
+            BACKGROUND_EXECUTOR,
+            ApplicationProperties.Async.RejectionPolicy.ABORT
+        );
+        executor.setCorePoolSize(BACKGROUND_POOL_SIZE);
+        executor.setMaxPoolSize(BACKGROUND_POOL_SIZE);
+        executor.setQueueCapacity(BACKGROUND_QUEUE_CAPACITY);
+        executor.setThreadNamePrefix("background-");
+        return executor;
+    }
+
+    /**
+     * The executor delivering the emails of the {@link MailOutbox}, so that a slow SMTP server does not hold the threads
+     * of the scheduler: one delivery at a time and at most one waiting, a further one is discarded as the waiting one
+     * sends its emails.
+     */
+    @Bean(name = MAIL_EXECUTOR)
+    public Executor mailExecutor() {
+        log.debug("Creating Mail Executor");
+        ThreadPoolTaskExecutor executor = new MeteredThreadPoolTaskExecutor(
+            meterRegistry,
+            MAIL_EXECUTOR,
+            ApplicationProperties.Async.RejectionPolicy.DISCARD
+        );
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("mail-outbox-");
+        return executor;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        MailOutbox outbox = mailOutbox.getIfAvailable();
+        if (outbox != null) {
+            Executor executor = mailExecutor();
+            long flushInterval = applicationProperties.getMail().getFlushInterval().toMillis();
+            taskRegistrar.addFixedDelayTask(() -> executor.execute(outbox::flush), flushInterval);
+        }
+    }
+
     @Override
     public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
         return new SimpleAsyncUncaughtExceptionHandler();
@@ -1,11 +1,26 @@
 package com.mycompany.myapp.config;
 
+import java.io.File;
 import java.time.Duration;
-import org.ehcache.config.builders.*;
+import java.util.Map;
+import java.util.Set;
+import javax.cache.Caching;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.config.units.MemoryUnit;
+import org.ehcache.core.config.DefaultConfiguration;
+import org.ehcache.expiry.ExpiryPolicy;
+import org.ehcache.impl.config.copy.DefaultCopierConfiguration;
+import org.ehcache.impl.config.persistence.DefaultPersistenceConfiguration;
+import org.ehcache.impl.copy.SerializingCopier;
 import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
 import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.cache.JCacheManagerCustomizer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
 import org.springframework.boot.info.BuildProperties;
 import org.springframework.boot.info.GitProperties;
@@ -19,12 +34,25 @@ import tech.jhipster.config.cache.PrefixedKeyGenerator;
 @EnableCaching
 public class CacheConfiguration {
 
+    /**
+     * Caches whose values are copied on read and write, as they hold detached entities which the requests may modify.
+     */
+    private static final Set<String> COPIED_CACHES = Set.of(
+        com.mycompany.myapp.service.QueryResultCache.CARDS_BY_CRITERIA_CACHE,
+        com.mycompany.myapp.service.QueryResultCache.LINES_BY_CRITERIA_CACHE
+    );
+
     private GitProperties gitProperties;
     private BuildProperties buildProperties;
     private final javax.cache.configuration.Configuration<Object, Object> jcacheConfiguration;
+    private final JHipsterProperties.Cache.Ehcache ehcache;
+    private final Map<String, ApplicationProperties.Cache.Region> regions;
+    private final String persistenceDirectory;
 
-    public CacheConfiguration(JHipsterProperties jHipsterProperties) {
-        JHipsterProperties.Cache.Ehcache ehcache = jHipsterProperties.getCache().getEhcache();
+    public CacheConfiguration(JHipsterProperties jHipsterProperties, ApplicationProperties applicationProperties) {
+        ehcache = jHipsterProperties.getCache().getEhcache();
+        regions = applicationProperties.getCache().getRegions();
+        persistenceDirectory = applicationProperties.getCache().getPersistenceDirectory();
 
         jcacheConfiguration =
             Eh107Configuration.fromEhcacheCacheConfiguration(
@@ -35,6 +63,22 @@ public class CacheConfiguration {
             );
     }
 
+    /**
+     * Cache manager able to hold disk tiers, replacing the default one when
+     * {@code application.cache.persistence-directory} is set; only the caches which have a {@code disk-size} use it.
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty("application.cache.persistence-directory")
+    public javax.cache.CacheManager jCacheCacheManager(ObjectProvider<JCacheManagerCustomizer> cacheManagerCustomizers) {
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        javax.cache.CacheManager cacheManager = provider.getCacheManager(
+            provider.getDefaultURI(),
+            new DefaultConfiguration(provider.getDefaultClassLoader(), new DefaultPersistenceConfiguration(new File(persistenceDirectory)))
+        );
+        cacheManagerCustomizers.orderedStream().forEach(customizer -> customizer.customize(cacheManager));
+        return cacheManager;
+    }
+
     @Bean
     public HibernatePropertiesCustomizer hibernatePropertiesCustomizer(javax.cache.CacheManager cacheManager) {
         return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
@@ -52,6 +96,12 @@ public class CacheConfiguration {
             createCache(cm, com.mycompany.myapp.domain.Line.class.getName());
             createCache(cm, com.mycompany.myapp.domain.Card.class.getName());
             createCache(cm, com.mycompany.myapp.domain.Board.class.getName() + ".lines");
+            createCache(cm, com.mycompany.myapp.domain.Line.class.getName() + ".cards");
+            createCache(cm, com.mycompany.myapp.repository.BoardTemplateRepository.BOARD_TEMPLATES_BY_NAME_CACHE);
+            createCache(cm, com.mycompany.myapp.domain.BoardTemplate.class.getName());
+            createCache(cm, com.mycompany.myapp.domain.BoardTemplate.class.getName() + ".lineTitles");
+            createCache(cm, com.mycompany.myapp.service.QueryResultCache.CARDS_BY_CRITERIA_CACHE);
+            createCache(cm, com.mycompany.myapp.service.QueryResultCache.LINES_BY_CRITERIA_CACHE);
             // jhipster-needle-ehcache-add-entry
         };
     }
@@ -61,8 +111,66 @@ public class CacheConfiguration {
         if (cache != null) {
             cache.clear();
         } else {
-            cm.createCache(cacheName, jcacheConfiguration);
+            cm.createCache(cacheName, jcacheConfiguration(cacheName));
+        }
+        // the JSR-107 statistics, published as the cache.* meters and by the cachestats management endpoint
+        cm.enableStatistics(cacheName, true);
+    }
+
+    /**
+     * The configuration of a cache: the defaults of {@code jhipster.cache.ehcache}, overridden by the settings of
+     * {@code application.cache.regions} for this cache, if any.
+     */
+    private javax.cache.configuration.Configuration<Object, Object> jcacheConfiguration(String cacheName) {
+        ApplicationProperties.Cache.Region region = regions.get(cacheName);
+        boolean copied = COPIED_CACHES.contains(cacheName);
+        if (region == null) {
+            if (!copied) {
+                return jcacheConfiguration;
+            }
+            region = new ApplicationProperties.Cache.Region();
+        }
+        // the heap tier is sized in entries, a size in bytes would make Ehcache walk the object graph of every entry
+        ResourcePoolsBuilder resourcePools = ResourcePoolsBuilder.heap(
+            region.getMaxEntries() != null ? region.getMaxEntries() : ehcache.getMaxEntries()
+        );
+        if (region.getOffHeapSize() != null) {
+            resourcePools = resourcePools.offheap(region.getOffHeapSize().toBytes(), MemoryUnit.B);
+        }
+        if (region.getDiskSize() != null) {
+            if (persistenceDirectory == null) {
+                throw new IllegalStateException(
+                    "Cache " + cacheName + " has a disk-size but application.cache.persistence-directory is not set"
+                );
+            }
+            resourcePools = resourcePools.disk(region.getDiskSize().toBytes(), MemoryUnit.B, region.isDiskPersistent());
+        }
+        CacheConfigurationBuilder<Object, Object> configuration = CacheConfigurationBuilder
+            .newCacheConfigurationBuilder(Object.class, Object.class, resourcePools)
+            .withExpiry(expiry(region));
+        if (copied) {
+            // the values are serialized on write and deserialized on read, each read gets its own instances
+            configuration =
+                configuration.withService(
+                    new DefaultCopierConfiguration<>(SerializingCopier.<Object>asCopierClass(), DefaultCopierConfiguration.Type.VALUE)
+                );
+        }
+        return Eh107Configuration.fromEhcacheCacheConfiguration(configuration.build());
+    }
+
+    private ExpiryPolicy<Object, Object> expiry(ApplicationProperties.Cache.Region region) {
+        Duration timeToLive = region.getTimeToLive();
+        Duration timeToIdle = region.getTimeToIdle();
+        if (timeToIdle == null) {
+            return ExpiryPolicyBuilder.timeToLiveExpiration(
+                timeToLive != null ? timeToLive : Duration.ofSeconds(ehcache.getTimeToLiveSeconds())
+            );
+        }
+        if (timeToLive == null) {
+            return ExpiryPolicyBuilder.timeToIdleExpiration(timeToIdle);
         }
+        // a write resets the entry to its time to live, a read extends it by its time to idle
+        return ExpiryPolicyBuilder.expiry().create(timeToLive).update(timeToLive).access(timeToIdle).build();
     }
 
     @Autowired(required = false)
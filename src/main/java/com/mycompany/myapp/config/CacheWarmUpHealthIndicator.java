@@ -0,0 +1,90 @@
+package com.mycompany.myapp.config;
+
+import com.mycompany.myapp.service.CacheWarmUpService;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Warms up the caches on the background executor once the application is ready, and reports the application out of
+ * service until the warm-up is done or {@code application.warm-up.timeout} has elapsed.
+ * <p>
+ * Include {@code cacheWarmUp} in the readiness health group so that no traffic is routed to the application while
+ * its caches are cold.
+ */
+@Component
+public class CacheWarmUpHealthIndicator implements HealthIndicator {
+
+    private final Logger log = LoggerFactory.getLogger(CacheWarmUpHealthIndicator.class);
+
+    private final ApplicationProperties.WarmUp warmUp;
+
+    private final CacheWarmUpService cacheWarmUpService;
+
+    private final Executor backgroundExecutor;
+
+    private volatile long startedAt;
+
+    private volatile boolean done;
+
+    public CacheWarmUpHealthIndicator(
+        ApplicationProperties applicationProperties,
+        CacheWarmUpService cacheWarmUpService,
+        @Qualifier("backgroundExecutor") Executor backgroundExecutor
+    ) {
+        this.warmUp = applicationProperties.getWarmUp();
+        this.cacheWarmUpService = cacheWarmUpService;
+        this.backgroundExecutor = backgroundExecutor;
+        this.done = !warmUp.isEnabled();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (done) {
+            return;
+        }
+        startedAt = System.nanoTime();
+        try {
+            backgroundExecutor.execute(this::warmUp);
+        } catch (RejectedExecutionException e) {
+            log.warn("Cache warm-up could not be started: {}", e.getMessage());
+            done = true;
+        }
+    }
+
+    private void warmUp() {
+        log.info("Warming up the caches");
+        try {
+            int boards = cacheWarmUpService.warmUpBoards(warmUp.getBoards());
+            int users = cacheWarmUpService.warmUpUsers(warmUp.getUsers());
+            log.info("Caches warmed up with {} boards and {} users in {} ms", boards, users, elapsed().toMillis());
+        } catch (RuntimeException e) {
+            log.warn("Cache warm-up failed after {} ms: {}", elapsed().toMillis(), e.getMessage());
+        } finally {
+            done = true;
+        }
+    }
+
+    @Override
+    public Health health() {
+        if (done) {
+            return Health.up().build();
+        }
+        if (startedAt != 0 && elapsed().compareTo(warmUp.getTimeout()) >= 0) {
+            return Health.up().withDetail("timedOut", true).build();
+        }
+        return Health.outOfService().build();
+    }
+
+    private Duration elapsed() {
+        return Duration.ofNanos(System.nanoTime() - startedAt);
+    }
+}
@@ -0,0 +1,92 @@
+package com.mycompany.myapp.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * A {@link DataSource} handing out at most a number of connections at once: callers wait for a permit, in arrival
+ * order, before a connection is taken from the target data source, and the permit is released when the connection is
+ * closed.
+ * <p>
+ * With one permit per connection of the pool, the threads waiting for a connection wait on the {@link Semaphore}, which
+ * parks a virtual thread, rather than in the pool, which could pin it to its carrier thread. Only the wait for a
+ * connection is covered: the {@code synchronized} blocks of the PostgreSQL driver and of Hibernate still pin a virtual
+ * thread to its carrier while it runs a query, so at most as many queries as there are carrier threads run at once.
+ */
+class ConnectionPermitDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+
+    private final long timeoutMillis;
+
+    ConnectionPermitDataSource(DataSource targetDataSource, int permits, long timeoutMillis) {
+        super(targetDataSource);
+        this.permits = new Semaphore(permits, true);
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException("No database connection available after " + timeoutMillis + "ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database connection", e);
+        }
+    }
+
+    private Connection releasingOnClose(Connection connection) {
+        AtomicBoolean closed = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+            ConnectionPermitDataSource.class.getClassLoader(),
+            new Class<?>[] { Connection.class },
+            (proxy, method, args) -> {
+                boolean closing = "close".equals(method.getName()) && closed.compareAndSet(false, true);
+                try {
+                    return method.invoke(connection, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getTargetException();
+                } finally {
+                    if (closing) {
+                        permits.release();
+                    }
+                }
+            }
+        );
+    }
+}
@@ -11,5 +11,8 @@ public final class Constants {
     public static final String SYSTEM = "system";
     public static final String DEFAULT_LANGUAGE = "en";
 
+    // Block size of ids reserved per call to "sequence_generator", must match the increment of the database sequence
+    public static final int ID_ALLOCATION_SIZE = 100;
+
     private Constants() {}
 }
@@ -0,0 +1,72 @@
+package com.mycompany.myapp.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * A {@link ThreadPoolTaskExecutor} publishing its pool and queue to the meter registry under the {@code executor.*}
+ * names, tagged with the name of the executor, and applying a {@link ApplicationProperties.Async.RejectionPolicy} to
+ * the tasks submitted once both are full, which are counted as {@code executor.rejected}.
+ */
+class MeteredThreadPoolTaskExecutor extends ThreadPoolTaskExecutor {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Logger log = LoggerFactory.getLogger(MeteredThreadPoolTaskExecutor.class);
+
+    private final transient MeterRegistry meterRegistry;
+
+    private final String name;
+
+    MeteredThreadPoolTaskExecutor(MeterRegistry meterRegistry, String name, ApplicationProperties.Async.RejectionPolicy rejectionPolicy) {
+        this.meterRegistry = meterRegistry;
+        this.name = name;
+        Counter rejected = Counter
+            .builder("executor.rejected")
+            .tag("name", name)
+            .tag("policy", rejectionPolicy.name())
+            .description("Tasks submitted while the pool and the queue of the executor were full")
+            .register(meterRegistry);
+        RejectedExecutionHandler handler = handler(rejectionPolicy);
+        boolean dropping =
+            rejectionPolicy == ApplicationProperties.Async.RejectionPolicy.DISCARD ||
+            rejectionPolicy == ApplicationProperties.Async.RejectionPolicy.DISCARD_OLDEST;
+        setRejectedExecutionHandler((task, executor) -> {
+            rejected.increment();
+            if (dropping) {
+                log.warn("Executor {} is full, discarding a task ({} policy)", name, rejectionPolicy);
+            }
+            handler.rejectedExecution(task, executor);
+        });
+    }
+
+    @Override
+    protected ExecutorService initializeExecutor(ThreadFactory threadFactory, RejectedExecutionHandler rejectedExecutionHandler) {
+        ExecutorService executor = super.initializeExecutor(threadFactory, rejectedExecutionHandler);
+        new ExecutorServiceMetrics(executor, name, Tags.empty()).bindTo(meterRegistry);
+        return executor;
+    }
+
+    private static RejectedExecutionHandler handler(ApplicationProperties.Async.RejectionPolicy rejectionPolicy) {
+        switch (rejectionPolicy) {
+            case ABORT:
+                return new ThreadPoolExecutor.AbortPolicy();
+            case DISCARD:
+                return new ThreadPoolExecutor.DiscardPolicy();
+            case DISCARD_OLDEST:
+                return new ThreadPoolExecutor.DiscardOldestPolicy();
+            case CALLER_RUNS:
+            default:
+                return new ThreadPoolExecutor.CallerRunsPolicy();
+        }
+    }
+}
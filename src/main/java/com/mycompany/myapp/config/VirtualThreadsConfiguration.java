@@ -0,0 +1,89 @@
+package com.mycompany.myapp.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Runs the requests, and the {@code @Async} tasks of {@link AsyncConfiguration}, on virtual threads when
+ * {@code application.virtual-threads.enabled} is set, by the {@code virtual-threads} profile.
+ * <p>
+ * The application is compiled for Java 17: the virtual thread executor is looked up when the application starts, which
+ * fails on an older Java. The database connections are handed out by a {@link ConnectionPermitDataSource}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "application.virtual-threads", name = "enabled", havingValue = "true")
+public class VirtualThreadsConfiguration {
+
+    public static final String VIRTUAL_THREAD_EXECUTOR = "virtualThreadExecutor";
+
+    /**
+     * The defaults of Hikari.
+     */
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    private static final long DEFAULT_CONNECTION_TIMEOUT = 30_000;
+
+    private final Logger log = LoggerFactory.getLogger(VirtualThreadsConfiguration.class);
+
+    @Bean(name = VIRTUAL_THREAD_EXECUTOR, destroyMethod = "shutdown")
+    public ExecutorService virtualThreadExecutor() {
+        log.info("Running requests and asynchronous tasks on virtual threads");
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(
+                "application.virtual-threads.enabled needs Java 21 or later, running on " + System.getProperty("java.version"),
+                e
+            );
+        }
+    }
+
+    @Bean
+    public WebServerFactoryCustomizer<UndertowServletWebServerFactory> virtualThreadsUndertowCustomizer(
+        @Qualifier(VIRTUAL_THREAD_EXECUTOR) ExecutorService virtualThreadExecutor
+    ) {
+        // the servlet requests are dispatched from the IO threads to this executor instead of the worker threads
+        return factory ->
+            factory.addDeploymentInfoCustomizers(deploymentInfo ->
+                deploymentInfo.setExecutor(virtualThreadExecutor).setAsyncExecutor(virtualThreadExecutor)
+            );
+    }
+
+    @Bean
+    public static BeanPostProcessor connectionPermitsPostProcessor(ObjectProvider<ApplicationProperties> applicationProperties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource) || bean instanceof ConnectionPermitDataSource) {
+                    return bean;
+                }
+                int permits = applicationProperties.getObject().getVirtualThreads().getConnectionPermits();
+                long timeout = DEFAULT_CONNECTION_TIMEOUT;
+                if (bean instanceof HikariDataSource) {
+                    HikariDataSource hikariDataSource = (HikariDataSource) bean;
+                    if (permits <= 0) {
+                        // the maximum size is only defaulted once the pool starts
+                        permits = hikariDataSource.getMaximumPoolSize() > 0 ? hikariDataSource.getMaximumPoolSize() : DEFAULT_POOL_SIZE;
+                    }
+                    timeout = hikariDataSource.getConnectionTimeout();
+                }
+                if (permits <= 0) {
+                    return bean;
+                }
+                return new ConnectionPermitDataSource((DataSource) bean, permits, timeout);
+            }
+        };
+    }
+}
@@ -1,6 +1,7 @@
 package com.mycompany.myapp.domain;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.mycompany.myapp.config.Constants;
 import java.io.Serializable;
 import java.util.HashSet;
 import java.util.Set;
@@ -15,19 +16,26 @@ import org.hibernate.annotations.CacheConcurrencyStrategy;
 @Table(name = "board")
 @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @SuppressWarnings("common-java:DuplicatedBlocks")
-public class Board implements Serializable {
+public class Board extends AbstractAuditingEntity<Long> implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
-    @SequenceGenerator(name = "sequenceGenerator")
+    @SequenceGenerator(name = "sequenceGenerator", allocationSize = Constants.ID_ALLOCATION_SIZE)
     @Column(name = "id")
     private Long id;
 
     @Column(name = "title")
     private String title;
 
+    /**
+     * Incremented by each update, compared by Hibernate to detect concurrent updates and used as the ETag.
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @OneToMany(mappedBy = "board")
     @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @JsonIgnoreProperties(value = { "board" }, allowSetters = true)
@@ -92,6 +100,19 @@ public class Board implements Serializable {
         return this;
     }
 
+    public Long getVersion() {
+        return this.version;
+    }
+
+    public Board version(Long version) {
+        this.setVersion(version);
+        return this;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     // jhipster-needle-entity-add-getters-setters - JHipster will add getters and setters here
 
     @Override
@@ -116,6 +137,7 @@ public class Board implements Serializable {
     public String toString() {
         return "Board{" +
             "id=" + getId() +
+            ", version=" + getVersion() +
             ", title='" + getTitle() + "'" +
             "}";
     }
@@ -0,0 +1,111 @@
+package com.mycompany.myapp.domain;
+
+import com.mycompany.myapp.config.Constants;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.*;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+/**
+ * A named list of line titles, used to create the lines of a new {@link Board}.
+ */
+@Entity
+@Table(name = "board_template")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class BoardTemplate implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
+    @SequenceGenerator(name = "sequenceGenerator", allocationSize = Constants.ID_ALLOCATION_SIZE)
+    @Column(name = "id")
+    private Long id;
+
+    @NotNull
+    @Size(min = 1, max = 50)
+    @Column(name = "name", length = 50, nullable = false, unique = true)
+    private String name;
+
+    @ElementCollection
+    @CollectionTable(name = "board_template_line", joinColumns = @JoinColumn(name = "board_template_id"))
+    @OrderColumn(name = "position")
+    @Column(name = "title")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+    private List<String> lineTitles = new ArrayList<>();
+
+    // jhipster-needle-entity-add-field - JHipster will add fields here
+
+    public Long getId() {
+        return this.id;
+    }
+
+    public BoardTemplate id(Long id) {
+        this.setId(id);
+        return this;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public BoardTemplate name(String name) {
+        this.setName(name);
+        return this;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public List<String> getLineTitles() {
+        return this.lineTitles;
+    }
+
+    public BoardTemplate lineTitles(List<String> lineTitles) {
+        this.setLineTitles(lineTitles);
+        return this;
+    }
+
+    public void setLineTitles(List<String> lineTitles) {
+        this.lineTitles = lineTitles;
+    }
+
+    // jhipster-needle-entity-add-getters-setters - JHipster will add getters and setters here
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof BoardTemplate)) {
+            return false;
+        }
+        return id != null && id.equals(((BoardTemplate) o).id);
+    }
+
+    @Override
+    public int hashCode() {
+        // see https://vladmihalcea.com/how-to-implement-equals-and-hashcode-using-the-jpa-entity-identifier/
+        return getClass().hashCode();
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "BoardTemplate{" +
+            "id=" + getId() +
+            ", name='" + getName() + "'" +
+            ", lineTitles=" + getLineTitles() +
+            "}";
+    }
+}
@@ -1,6 +1,7 @@
 package com.mycompany.myapp.domain;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.mycompany.myapp.config.Constants;
 import java.io.Serializable;
 import javax.persistence.*;
 import org.hibernate.annotations.Cache;
@@ -13,13 +14,13 @@ import org.hibernate.annotations.CacheConcurrencyStrategy;
 @Table(name = "card")
 @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @SuppressWarnings("common-java:DuplicatedBlocks")
-public class Card implements Serializable {
+public class Card extends AbstractAuditingEntity<Long> implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
-    @SequenceGenerator(name = "sequenceGenerator")
+    @SequenceGenerator(name = "sequenceGenerator", allocationSize = Constants.ID_ALLOCATION_SIZE)
     @Column(name = "id")
     private Long id;
 
@@ -32,8 +33,22 @@ public class Card implements Serializable {
     @Column(name = "jhi_desc")
     private String desc;
 
+    /**
+     * Rank of the card in its line, ascending. Positions are spaced, so that a card is moved by giving it a position
+     * between those of its new neighbours without renumbering them.
+     */
+    @Column(name = "position")
+    private Double position;
+
+    /**
+     * Incremented by each update, compared by Hibernate to detect concurrent updates and used as the ETag.
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @ManyToOne
-    @JsonIgnoreProperties(value = { "board" }, allowSetters = true)
+    @JsonIgnoreProperties(value = { "board", "cards" }, allowSetters = true)
     private Line line;
 
     // jhipster-needle-entity-add-field - JHipster will add fields here
@@ -90,6 +105,19 @@ public class Card implements Serializable {
         this.desc = desc;
     }
 
+    public Double getPosition() {
+        return this.position;
+    }
+
+    public Card position(Double position) {
+        this.setPosition(position);
+        return this;
+    }
+
+    public void setPosition(Double position) {
+        this.position = position;
+    }
+
     public Line getLine() {
         return this.line;
     }
@@ -103,6 +131,19 @@ public class Card implements Serializable {
         return this;
     }
 
+    public Long getVersion() {
+        return this.version;
+    }
+
+    public Card version(Long version) {
+        this.setVersion(version);
+        return this;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     // jhipster-needle-entity-add-getters-setters - JHipster will add getters and setters here
 
     @Override
@@ -127,9 +168,11 @@ public class Card implements Serializable {
     public String toString() {
         return "Card{" +
             "id=" + getId() +
+            ", version=" + getVersion() +
             ", title='" + getTitle() + "'" +
             ", level=" + getLevel() +
             ", desc='" + getDesc() + "'" +
+            ", position=" + getPosition() +
             "}";
     }
 }
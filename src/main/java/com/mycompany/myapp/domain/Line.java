@@ -1,7 +1,10 @@
 package com.mycompany.myapp.domain;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.mycompany.myapp.config.Constants;
 import java.io.Serializable;
+import java.util.HashSet;
+import java.util.Set;
 import javax.persistence.*;
 import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
@@ -13,23 +16,35 @@ import org.hibernate.annotations.CacheConcurrencyStrategy;
 @Table(name = "line")
 @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @SuppressWarnings("common-java:DuplicatedBlocks")
-public class Line implements Serializable {
+public class Line extends AbstractAuditingEntity<Long> implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
-    @SequenceGenerator(name = "sequenceGenerator")
+    @SequenceGenerator(name = "sequenceGenerator", allocationSize = Constants.ID_ALLOCATION_SIZE)
     @Column(name = "id")
     private Long id;
 
     @Column(name = "title")
     private String title;
 
+    /**
+     * Incremented by each update, compared by Hibernate to detect concurrent updates and used as the ETag.
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @ManyToOne
     @JsonIgnoreProperties(value = { "lines" }, allowSetters = true)
     private Board board;
 
+    @OneToMany(mappedBy = "line")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+    @JsonIgnoreProperties(value = { "line" }, allowSetters = true)
+    private Set<Card> cards = new HashSet<>();
+
     // jhipster-needle-entity-add-field - JHipster will add fields here
 
     public Long getId() {
@@ -71,6 +86,50 @@ public class Line implements Serializable {
         return this;
     }
 
+    public Set<Card> getCards() {
+        return this.cards;
+    }
+
+    public void setCards(Set<Card> cards) {
+        if (this.cards != null) {
+            this.cards.forEach(i -> i.setLine(null));
+        }
+        if (cards != null) {
+            cards.forEach(i -> i.setLine(this));
+        }
+        this.cards = cards;
+    }
+
+    public Line cards(Set<Card> cards) {
+        this.setCards(cards);
+        return this;
+    }
+
+    public Line addCard(Card card) {
+        this.cards.add(card);
+        card.setLine(this);
+        return this;
+    }
+
+    public Line removeCard(Card card) {
+        this.cards.remove(card);
+        card.setLine(null);
+        return this;
+    }
+
+    public Long getVersion() {
+        return this.version;
+    }
+
+    public Line version(Long version) {
+        this.setVersion(version);
+        return this;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     // jhipster-needle-entity-add-getters-setters - JHipster will add getters and setters here
 
     @Override
@@ -95,6 +154,7 @@ public class Line implements Serializable {
     public String toString() {
         return "Line{" +
             "id=" + getId() +
+            ", version=" + getVersion() +
             ", title='" + getTitle() + "'" +
             "}";
     }
@@ -0,0 +1,132 @@
+package com.mycompany.myapp.domain;
+
+import com.mycompany.myapp.config.Constants;
+import com.mycompany.myapp.domain.enumeration.BoardItemType;
+import java.io.Serializable;
+import java.time.Instant;
+import javax.persistence.*;
+
+/**
+ * A board, line or card deleted from a board, or moved out of it, kept for a while so that clients syncing the board
+ * since an earlier time learn about it.
+ */
+@Entity
+@Table(name = "tombstone")
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class Tombstone implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
+    @SequenceGenerator(name = "sequenceGenerator", allocationSize = Constants.ID_ALLOCATION_SIZE)
+    @Column(name = "id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 20)
+    private BoardItemType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Column(name = "board_id", nullable = false)
+    private Long boardId;
+
+    @Column(name = "deleted_date", nullable = false)
+    private Instant deletedDate;
+
+    public Long getId() {
+        return this.id;
+    }
+
+    public Tombstone id(Long id) {
+        this.setId(id);
+        return this;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public BoardItemType getEntityType() {
+        return this.entityType;
+    }
+
+    public Tombstone entityType(BoardItemType entityType) {
+        this.setEntityType(entityType);
+        return this;
+    }
+
+    public void setEntityType(BoardItemType entityType) {
+        this.entityType = entityType;
+    }
+
+    public Long getEntityId() {
+        return this.entityId;
+    }
+
+    public Tombstone entityId(Long entityId) {
+        this.setEntityId(entityId);
+        return this;
+    }
+
+    public void setEntityId(Long entityId) {
+        this.entityId = entityId;
+    }
+
+    public Long getBoardId() {
+        return this.boardId;
+    }
+
+    public Tombstone boardId(Long boardId) {
+        this.setBoardId(boardId);
+        return this;
+    }
+
+    public void setBoardId(Long boardId) {
+        this.boardId = boardId;
+    }
+
+    public Instant getDeletedDate() {
+        return this.deletedDate;
+    }
+
+    public Tombstone deletedDate(Instant deletedDate) {
+        this.setDeletedDate(deletedDate);
+        return this;
+    }
+
+    public void setDeletedDate(Instant deletedDate) {
+        this.deletedDate = deletedDate;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Tombstone)) {
+            return false;
+        }
+        return id != null && id.equals(((Tombstone) o).id);
+    }
+
+    @Override
+    public int hashCode() {
+        // see https://vladmihalcea.com/how-to-implement-equals-and-hashcode-using-the-jpa-entity-identifier/
+        return getClass().hashCode();
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "Tombstone{" +
+            "id=" + getId() +
+            ", entityType='" + getEntityType() + "'" +
+            ", entityId=" + getEntityId() +
+            ", boardId=" + getBoardId() +
+            ", deletedDate='" + getDeletedDate() + "'" +
+            "}";
+    }
+}
@@ -0,0 +1,10 @@
+package com.mycompany.myapp.domain.enumeration;
+
+/**
+ * The BoardItemType enumeration.
+ */
+public enum BoardItemType {
+    BOARD,
+    LINE,
+    CARD,
+}
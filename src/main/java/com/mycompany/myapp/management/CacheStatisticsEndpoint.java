@@ -0,0 +1,91 @@
+package com.mycompany.myapp.management;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.cache.management.CacheStatisticsMXBean;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Management endpoint listing the statistics of each cache, to size the caches of {@code application.cache.regions}.
+ * <p>
+ * The same figures are published to the meter registry under the {@code cache.*} names.
+ */
+@Component
+@Endpoint(id = "cachestats")
+public class CacheStatisticsEndpoint {
+
+    private final CacheStatisticsService cacheStatisticsService;
+
+    public CacheStatisticsEndpoint(CacheStatisticsService cacheStatisticsService) {
+        this.cacheStatisticsService = cacheStatisticsService;
+    }
+
+    @ReadOperation
+    public List<CacheStatisticsDescriptor> caches() {
+        return cacheStatisticsService
+            .getCacheNames()
+            .stream()
+            .flatMap(name -> cacheStatisticsService.getStatistics(name).map(s -> new CacheStatisticsDescriptor(name, s)).stream())
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Statistics of a cache.
+     */
+    public static final class CacheStatisticsDescriptor {
+
+        private final String name;
+
+        private final long hits;
+
+        private final long misses;
+
+        private final double hitRatio;
+
+        private final long puts;
+
+        private final long removals;
+
+        private final long evictions;
+
+        CacheStatisticsDescriptor(String name, CacheStatisticsMXBean cacheStatistics) {
+            this.name = name;
+            this.hits = cacheStatistics.getCacheHits();
+            this.misses = cacheStatistics.getCacheMisses();
+            this.hitRatio = hits + misses == 0 ? 0 : (double) hits / (hits + misses);
+            this.puts = cacheStatistics.getCachePuts();
+            this.removals = cacheStatistics.getCacheRemovals();
+            this.evictions = cacheStatistics.getCacheEvictions();
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+
+        public double getHitRatio() {
+            return hitRatio;
+        }
+
+        public long getPuts() {
+            return puts;
+        }
+
+        public long getRemovals() {
+            return removals;
+        }
+
+        public long getEvictions() {
+            return evictions;
+        }
+    }
+}
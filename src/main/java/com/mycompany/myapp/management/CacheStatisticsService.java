@@ -0,0 +1,71 @@
+package com.mycompany.myapp.management;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import javax.cache.CacheManager;
+import javax.cache.management.CacheStatisticsMXBean;
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import org.springframework.stereotype.Service;
+
+/**
+ * Statistics of the caches, used by the Hibernate second level cache and the Spring caches: hits, misses, puts,
+ * removals and evictions.
+ * <p>
+ * The statistics are the JSR-107 ones, enabled on each cache by {@code CacheConfiguration} and registered by the cache
+ * provider in the platform MBean server, where Spring Boot also reads them to publish the {@code cache.*} meters.
+ */
+@Service
+public class CacheStatisticsService {
+
+    private final CacheManager cacheManager;
+
+    private final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+
+    public CacheStatisticsService(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * @return the names of the caches, sorted.
+     */
+    public List<String> getCacheNames() {
+        return StreamSupport.stream(cacheManager.getCacheNames().spliterator(), false).sorted().collect(Collectors.toList());
+    }
+
+    /**
+     * Get the statistics of a cache.
+     *
+     * @param cacheName the name of the cache.
+     * @return the statistics, or empty if there is no such cache or its statistics are not enabled.
+     */
+    public Optional<CacheStatisticsMXBean> getStatistics(String cacheName) {
+        ObjectName objectName = objectName(cacheName);
+        if (cacheManager.getCache(cacheName) == null || !mBeanServer.isRegistered(objectName)) {
+            return Optional.empty();
+        }
+        return Optional.of(JMX.newMXBeanProxy(mBeanServer, objectName, CacheStatisticsMXBean.class));
+    }
+
+    /**
+     * The name of the statistics MBean of a cache, as defined by JSR-107: the separators of the object names found in the
+     * cache manager URI and the cache name are replaced by dots.
+     */
+    private ObjectName objectName(String cacheName) {
+        try {
+            String cacheManagerName = sanitize(cacheManager.getURI().toString());
+            return new ObjectName("javax.cache:type=CacheStatistics,CacheManager=" + cacheManagerName + ",Cache=" + sanitize(cacheName));
+        } catch (MalformedObjectNameException e) {
+            throw new IllegalArgumentException("Cache name '" + cacheName + "' results in an invalid JMX name", e);
+        }
+    }
+
+    private static String sanitize(String name) {
+        return name.replaceAll("[,:=\n]", ".");
+    }
+}
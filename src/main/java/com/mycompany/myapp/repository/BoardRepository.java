@@ -1,7 +1,12 @@
 package com.mycompany.myapp.repository;
 
 import com.mycompany.myapp.domain.Board;
+import java.util.List;
+import java.util.Optional;
+import javax.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -9,4 +14,26 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface BoardRepository extends JpaRepository<Board, Long>, JpaSpecificationExecutor<Board> {}
+public interface BoardRepository extends JpaRepository<Board, Long>, JpaSpecificationExecutor<Board>, SliceSpecificationExecutor<Board> {
+    /**
+     * Load a board together with all its lines and their cards in a single SQL statement.
+     * <p>
+     * Both collections are {@link java.util.Set}s, so the double fetch join is safe; the {@code distinct}
+     * only de-duplicates the root in memory and is not passed through to the database.
+     *
+     * @param id the id of the board.
+     * @return the board with {@code lines} and {@code lines.cards} initialized.
+     */
+    @Query("select distinct board from Board board left join fetch board.lines line left join fetch line.cards where board.id = :id")
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_PASS_DISTINCT_THROUGH, value = "false"))
+    Optional<Board> findOneWithLinesAndCardsById(@Param("id") Long id);
+
+    /**
+     * Return the ids of the most recently created boards, without loading the boards.
+     *
+     * @param pageable the page of ids to return.
+     * @return the ids, newest first.
+     */
+    @Query("select board.id from Board board order by board.id desc")
+    List<Long> findLatestIds(Pageable pageable);
+}
@@ -0,0 +1,26 @@
+package com.mycompany.myapp.repository;
+
+import com.mycompany.myapp.domain.BoardTemplate;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for the {@link BoardTemplate} entity.
+ */
+@Repository
+public interface BoardTemplateRepository extends JpaRepository<BoardTemplate, Long> {
+    String BOARD_TEMPLATES_BY_NAME_CACHE = "boardTemplatesByName";
+
+    @EntityGraph(attributePaths = "lineTitles")
+    @Cacheable(cacheNames = BOARD_TEMPLATES_BY_NAME_CACHE)
+    Optional<BoardTemplate> findOneWithLineTitlesByName(String name);
+
+    Optional<BoardTemplate> findOneByName(String name);
+
+    @EntityGraph(attributePaths = "lineTitles")
+    List<BoardTemplate> findAllWithLineTitlesBy();
+}
@@ -1,7 +1,11 @@
 package com.mycompany.myapp.repository;
 
 import com.mycompany.myapp.domain.Card;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -9,4 +13,66 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface CardRepository extends JpaRepository<Card, Long>, JpaSpecificationExecutor<Card> {}
+public interface CardRepository
+    extends
+        JpaRepository<Card, Long>,
+        JpaSpecificationExecutor<Card>,
+        SliceSpecificationExecutor<Card>,
+        StreamSpecificationExecutor<Card>,
+        CardSearchRepository {
+    /**
+     * Return the cards of the lines of a board created or modified after the given time, or whose line was: a line
+     * moved to the board brings its cards, which are not modified themselves.
+     *
+     * @param boardId the id of the board.
+     * @param since the time after which the cards, or their line, were modified.
+     * @return the cards with their line, in modification order.
+     */
+    @Query(
+        "select card from Card card join fetch card.line line where line.board.id = :boardId" +
+        " and (card.lastModifiedDate > :since or line.lastModifiedDate > :since)" +
+        " order by card.lastModifiedDate, card.id"
+    )
+    List<Card> findAllByBoardIdModifiedAfter(@Param("boardId") Long boardId, @Param("since") Instant since);
+
+    /**
+     * Return the cards of a line in position order, those without position last.
+     *
+     * @param lineId the id of the line.
+     * @return the cards of the line.
+     */
+    @Query("select card from Card card where card.line.id = :lineId order by card.position asc nulls last, card.id")
+    List<Card> findAllByLineIdInPositionOrder(@Param("lineId") Long lineId);
+
+    /**
+     * Return the lowest position of the cards of a line.
+     *
+     * @param lineId the id of the line.
+     * @param excludedId the id of a card to ignore.
+     * @return the position, or {@code null} if the line has no positioned card.
+     */
+    @Query("select min(card.position) from Card card where card.line.id = :lineId and card.id <> :excludedId")
+    Double findFirstPosition(@Param("lineId") Long lineId, @Param("excludedId") Long excludedId);
+
+    /**
+     * Return the lowest position of the cards of a line which follow a position.
+     *
+     * @param lineId the id of the line.
+     * @param position the position the cards follow.
+     * @param excludedId the id of a card to ignore.
+     * @return the position, or {@code null} if no card follows.
+     */
+    @Query(
+        "select min(card.position) from Card card where card.line.id = :lineId and card.position > :position and card.id <> :excludedId"
+    )
+    Double findNextPosition(@Param("lineId") Long lineId, @Param("position") Double position, @Param("excludedId") Long excludedId);
+
+    /**
+     * Return the highest position of the cards of each line.
+     *
+     * @param lineIds the ids of the lines.
+     * @return the id of the line and its highest position, for each line with a positioned card.
+     */
+    @Query("select card.line.id, max(card.position) from Card card where card.line.id in :lineIds group by card.line.id")
+    List<Object[]> findLastPositions(@Param("lineIds") Collection<Long> lineIds);
+}
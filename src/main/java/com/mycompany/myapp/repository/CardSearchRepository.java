@@ -0,0 +1,24 @@
+package com.mycompany.myapp.repository;
+
+import com.mycompany.myapp.domain.Card;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+/**
+ * Repository fragment for the full-text search of {@link Card}s over their title and description.
+ */
+public interface CardSearchRepository {
+    /**
+     * Search the cards whose title or description match all the words of the query, best matches first.
+     * <p>
+     * On PostgreSQL, the query is parsed with {@code websearch_to_tsquery} (quoted phrases, {@code or}, {@code -word})
+     * and matched against the {@code card.search_vector} GIN index, ranked with title matches above description
+     * matches. On other databases, each word must be contained in the title or the description, and title matches
+     * come first.
+     *
+     * @param query the words to search for.
+     * @param pageable the offset and size of the slice; its sort is ignored.
+     * @return the slice of matching cards.
+     */
+    Slice<Card> search(String query, Pageable pageable);
+}
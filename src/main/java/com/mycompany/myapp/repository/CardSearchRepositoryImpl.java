@@ -0,0 +1,89 @@
+package com.mycompany.myapp.repository;
+
+import com.mycompany.myapp.domain.Card;
+import com.mycompany.myapp.domain.Card_;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import org.hibernate.dialect.PostgreSQL81Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+/**
+ * Implementation of {@link CardSearchRepository}.
+ */
+public class CardSearchRepositoryImpl implements CardSearchRepository {
+
+    private static final String POSTGRESQL_SEARCH =
+        "select card.* from card, websearch_to_tsquery('simple', :query) query " +
+        "where card.search_vector @@ query " +
+        "order by ts_rank(card.search_vector, query) desc, card.id";
+
+    private static final char ESCAPE = '\\';
+
+    private final EntityManager entityManager;
+
+    private final boolean postgresql;
+
+    public CardSearchRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+        SessionFactoryImplementor sessionFactory = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class);
+        this.postgresql = sessionFactory.getJdbcServices().getDialect() instanceof PostgreSQL81Dialect;
+    }
+
+    @Override
+    public Slice<Card> search(String query, Pageable pageable) {
+        Query search = postgresql ? fullText(query) : like(query);
+        @SuppressWarnings("unchecked")
+        List<Card> content = search
+            .setFirstResult((int) pageable.getOffset())
+            .setMaxResults(pageable.getPageSize() + 1)
+            .getResultList();
+        boolean hasNext = content.size() > pageable.getPageSize();
+        if (hasNext) {
+            content = content.subList(0, pageable.getPageSize());
+        }
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    private Query fullText(String query) {
+        return entityManager.createNativeQuery(POSTGRESQL_SEARCH, Card.class).setParameter("query", query);
+    }
+
+    private Query like(String query) {
+        List<String> words = Arrays
+            .stream(query.trim().split("\\s+"))
+            .map(word -> word.toUpperCase(Locale.ROOT))
+            .collect(Collectors.toList());
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Card> criteria = builder.createQuery(Card.class);
+        Root<Card> root = criteria.from(Card.class);
+        Expression<String> title = builder.upper(root.get(Card_.title));
+        Expression<String> desc = builder.upper(root.get(Card_.desc));
+
+        Predicate[] predicates = words
+            .stream()
+            .map(word -> builder.or(builder.like(title, contains(word), ESCAPE), builder.like(desc, contains(word), ESCAPE)))
+            .toArray(Predicate[]::new);
+        Expression<Integer> titleFirst = builder
+            .<Integer>selectCase()
+            .when(builder.like(title, contains(words.get(0)), ESCAPE), 0)
+            .otherwise(1);
+        criteria.select(root).where(predicates).orderBy(builder.asc(titleFirst), builder.asc(root.get(Card_.id)));
+        return entityManager.createQuery(criteria);
+    }
+
+    private static String contains(String word) {
+        return "%" + word.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    }
+}
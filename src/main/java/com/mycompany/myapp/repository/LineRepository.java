@@ -1,7 +1,11 @@
 package com.mycompany.myapp.repository;
 
 import com.mycompany.myapp.domain.Line;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -9,4 +13,26 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface LineRepository extends JpaRepository<Line, Long>, JpaSpecificationExecutor<Line> {}
+public interface LineRepository extends JpaRepository<Line, Long>, JpaSpecificationExecutor<Line>, SliceSpecificationExecutor<Line> {
+    /**
+     * Return which of the given ids belong to an existing line, without loading the lines.
+     *
+     * @param ids the ids to check.
+     * @return the ids of the existing lines.
+     */
+    @Query("select line.id from Line line where line.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Return the lines of a board created or modified after the given time.
+     *
+     * @param boardId the id of the board.
+     * @param since the time after which the lines were modified.
+     * @return the lines, in modification order.
+     */
+    @Query(
+        "select line from Line line join fetch line.board board where board.id = :boardId and line.lastModifiedDate > :since" +
+        " order by line.lastModifiedDate, line.id"
+    )
+    List<Line> findAllByBoardIdModifiedAfter(@Param("boardId") Long boardId, @Param("since") Instant since);
+}
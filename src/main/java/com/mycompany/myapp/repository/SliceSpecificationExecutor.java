@@ -0,0 +1,54 @@
+package com.mycompany.myapp.repository;
+
+import java.util.OptionalLong;
+import javax.persistence.metamodel.SingularAttribute;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Repository fragment for reading a {@link Specification} in {@link Slice}s, without the {@code count} query that
+ * {@link org.springframework.data.jpa.repository.JpaSpecificationExecutor#findAll(Specification, Pageable)} runs
+ * for every page.
+ * <p>
+ * A slice is read with one extra row, only fetched to know whether there is a next slice.
+ *
+ * @param <T> the entity type.
+ */
+public interface SliceSpecificationExecutor<T> {
+    /**
+     * Return a slice of the entities matching the specification, using offset pagination.
+     *
+     * @param specification the filters the entities must match, may be {@code null}.
+     * @param pageable the offset, size and sort of the slice.
+     * @param domainClass the entity class.
+     * @return the slice of entities.
+     */
+    Slice<T> findSlice(Specification<T> specification, Pageable pageable, Class<T> domainClass);
+
+    /**
+     * Return the entities matching the specification whose id is greater than {@code after}, ordered by id.
+     * <p>
+     * This is keyset (seek) pagination: instead of skipping {@code offset} rows, the next slice is read with
+     * {@code where id > :after order by id limit :size + 1}, which the primary key index answers in the same time
+     * whatever the depth of the page.
+     *
+     * @param specification the filters the entities must match, may be {@code null}.
+     * @param id the id attribute of the entity, used both for the seek predicate and the ordering.
+     * @param after the id of the last entity of the previous slice, or {@code null} for the first slice.
+     * @param size the maximum number of entities to return.
+     * @return the slice of entities.
+     */
+    Slice<T> findAllAfter(Specification<T> specification, SingularAttribute<T, Long> id, Long after, int size);
+
+    /**
+     * Return the number of rows of the entity table as estimated by the database planner statistics.
+     * <p>
+     * Only PostgreSQL is supported ({@code pg_class.reltuples}); the estimate is as fresh as the last
+     * {@code ANALYZE} or autovacuum of the table.
+     *
+     * @param domainClass the entity class.
+     * @return the estimated number of rows, or empty if the database has no estimate for the table.
+     */
+    OptionalLong estimateCount(Class<T> domainClass);
+}
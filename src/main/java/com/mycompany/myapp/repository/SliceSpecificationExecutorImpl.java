@@ -0,0 +1,112 @@
+package com.mycompany.myapp.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.OptionalLong;
+import javax.persistence.EntityManager;
+import javax.persistence.Table;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.metamodel.SingularAttribute;
+import org.hibernate.Session;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+/**
+ * Implementation of {@link SliceSpecificationExecutor}, shared by all the repositories that extend it.
+ */
+public class SliceSpecificationExecutorImpl<T> implements SliceSpecificationExecutor<T> {
+
+    private static final String POSTGRESQL = "PostgreSQL";
+
+    private static final String RELTUPLES_QUERY = "select reltuples from pg_class where oid = to_regclass(?)";
+
+    private final EntityManager entityManager;
+
+    public SliceSpecificationExecutorImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Slice<T> findSlice(Specification<T> specification, Pageable pageable, Class<T> domainClass) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = builder.createQuery(domainClass);
+        Root<T> root = query.from(domainClass);
+
+        Predicate predicate = specification == null ? null : specification.toPredicate(root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(root).orderBy(QueryUtils.toOrders(pageable.getSort(), root, builder));
+
+        TypedQuery<T> typedQuery = entityManager.createQuery(query);
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(typedQuery.getResultList(), pageable, false);
+        }
+        typedQuery.setFirstResult((int) pageable.getOffset());
+        return toSlice(typedQuery, pageable);
+    }
+
+    @Override
+    public Slice<T> findAllAfter(Specification<T> specification, SingularAttribute<T, Long> id, Long after, int size) {
+        Class<T> domainClass = id.getDeclaringType().getJavaType();
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = builder.createQuery(domainClass);
+        Root<T> root = query.from(domainClass);
+
+        Predicate predicate = specification == null ? null : specification.toPredicate(root, query, builder);
+        if (after != null) {
+            Predicate seek = builder.greaterThan(root.get(id), after);
+            predicate = predicate == null ? seek : builder.and(predicate, seek);
+        }
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(root).orderBy(builder.asc(root.get(id)));
+
+        return toSlice(entityManager.createQuery(query), PageRequest.of(0, size, Sort.by(id.getName())));
+    }
+
+    @Override
+    public OptionalLong estimateCount(Class<T> domainClass) {
+        Table table = domainClass.getAnnotation(Table.class);
+        if (table == null) {
+            return OptionalLong.empty();
+        }
+        return entityManager
+            .unwrap(Session.class)
+            .doReturningWork(connection -> {
+                if (!POSTGRESQL.equals(connection.getMetaData().getDatabaseProductName())) {
+                    return OptionalLong.empty();
+                }
+                try (PreparedStatement statement = connection.prepareStatement(RELTUPLES_QUERY)) {
+                    statement.setString(1, table.name());
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        // reltuples is -1 for a table that has never been analyzed
+                        if (resultSet.next() && resultSet.getDouble(1) >= 0) {
+                            return OptionalLong.of(Math.round(resultSet.getDouble(1)));
+                        }
+                        return OptionalLong.empty();
+                    }
+                }
+            });
+    }
+
+    private Slice<T> toSlice(TypedQuery<T> query, Pageable pageable) {
+        List<T> content = query.setMaxResults(pageable.getPageSize() + 1).getResultList();
+        boolean hasNext = content.size() > pageable.getPageSize();
+        if (hasNext) {
+            content = content.subList(0, pageable.getPageSize());
+        }
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+}
@@ -0,0 +1,28 @@
+package com.mycompany.myapp.repository;
+
+import java.util.stream.Stream;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Repository fragment for reading all the entities matching a {@link Specification} as a {@link Stream}.
+ * <p>
+ * The rows are read through a forward-only JDBC cursor with the given fetch size, so only one fetch of rows is held
+ * by the driver at a time. The entities are read-only and bypass the second-level cache. The stream must be consumed
+ * and closed inside the transaction that opened it, and the caller is responsible for clearing the persistence
+ * context as it goes.
+ *
+ * @param <T> the entity type.
+ */
+public interface StreamSpecificationExecutor<T> {
+    /**
+     * Stream the entities matching the specification.
+     *
+     * @param specification the filters the entities must match, may be {@code null}.
+     * @param sort the order of the entities.
+     * @param domainClass the entity class.
+     * @param fetchSize the number of rows fetched per database round trip.
+     * @return the stream of entities, to be closed by the caller.
+     */
+    Stream<T> streamAll(Specification<T> specification, Sort sort, Class<T> domainClass, int fetchSize);
+}
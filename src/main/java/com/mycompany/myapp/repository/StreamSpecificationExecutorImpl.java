@@ -0,0 +1,45 @@
+package com.mycompany.myapp.repository;
+
+import java.util.stream.Stream;
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import org.hibernate.CacheMode;
+import org.hibernate.jpa.QueryHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+/**
+ * Implementation of {@link StreamSpecificationExecutor}, shared by all the repositories that extend it.
+ */
+public class StreamSpecificationExecutorImpl<T> implements StreamSpecificationExecutor<T> {
+
+    private final EntityManager entityManager;
+
+    public StreamSpecificationExecutorImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Stream<T> streamAll(Specification<T> specification, Sort sort, Class<T> domainClass, int fetchSize) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = builder.createQuery(domainClass);
+        Root<T> root = query.from(domainClass);
+
+        Predicate predicate = specification == null ? null : specification.toPredicate(root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(root).orderBy(QueryUtils.toOrders(sort, root, builder));
+
+        return entityManager
+            .createQuery(query)
+            .setHint(QueryHints.HINT_FETCH_SIZE, fetchSize)
+            .setHint(QueryHints.HINT_READONLY, true)
+            .setHint(QueryHints.HINT_CACHE_MODE, CacheMode.IGNORE)
+            .getResultStream();
+    }
+}
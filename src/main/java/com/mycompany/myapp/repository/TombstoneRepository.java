@@ -0,0 +1,26 @@
+package com.mycompany.myapp.repository;
+
+import com.mycompany.myapp.domain.Tombstone;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for the Tombstone entity.
+ */
+@Repository
+public interface TombstoneRepository extends JpaRepository<Tombstone, Long> {
+    List<Tombstone> findAllByBoardIdAndDeletedDateAfterOrderByDeletedDate(Long boardId, Instant since);
+
+    /**
+     * Delete the tombstones older than the given time, in a single statement.
+     *
+     * @param before the time before which the tombstones are deleted.
+     * @return the number of deleted tombstones.
+     */
+    @Modifying
+    @Query("delete from Tombstone tombstone where tombstone.deletedDate < :before")
+    int deleteAllByDeletedDateBefore(@Param("before") Instant before);
+}
@@ -0,0 +1,77 @@
+package com.mycompany.myapp.security;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * Registry of shared, immutable {@link GrantedAuthority} instances.
+ * <p>
+ * The authorities of {@link AuthoritiesConstants} are built once; other authorities, and the lists of authorities
+ * parsed from a comma separated value such as the JWT {@code auth} claim, are built on first use and then reused. At
+ * most {@value #MAX_INTERNED} values of each kind are kept, beyond that new instances are returned.
+ */
+public final class AuthorityRegistry {
+
+    static final int MAX_INTERNED = 256;
+
+    private static final ConcurrentMap<String, GrantedAuthority> AUTHORITIES = new ConcurrentHashMap<>();
+
+    private static final ConcurrentMap<String, List<GrantedAuthority>> AUTHORITY_LISTS = new ConcurrentHashMap<>();
+
+    static {
+        for (String authority : new String[] { AuthoritiesConstants.ADMIN, AuthoritiesConstants.USER, AuthoritiesConstants.ANONYMOUS }) {
+            AUTHORITIES.put(authority, new SimpleGrantedAuthority(authority));
+        }
+    }
+
+    private AuthorityRegistry() {}
+
+    /**
+     * Get the shared instance of an authority.
+     *
+     * @param authority the name of the authority.
+     * @return the authority.
+     */
+    public static GrantedAuthority get(String authority) {
+        GrantedAuthority grantedAuthority = AUTHORITIES.get(authority);
+        if (grantedAuthority != null) {
+            return grantedAuthority;
+        }
+        if (AUTHORITIES.size() >= MAX_INTERNED) {
+            return new SimpleGrantedAuthority(authority);
+        }
+        return AUTHORITIES.computeIfAbsent(authority, SimpleGrantedAuthority::new);
+    }
+
+    /**
+     * Get the shared, unmodifiable list of the authorities named in a comma separated value; blank names are ignored.
+     *
+     * @param authorities the comma separated names of the authorities.
+     * @return the authorities, in the order of the value.
+     */
+    public static List<GrantedAuthority> fromCommaSeparated(String authorities) {
+        List<GrantedAuthority> grantedAuthorities = AUTHORITY_LISTS.get(authorities);
+        if (grantedAuthorities != null) {
+            return grantedAuthorities;
+        }
+        if (AUTHORITY_LISTS.size() >= MAX_INTERNED) {
+            return parse(authorities);
+        }
+        return AUTHORITY_LISTS.computeIfAbsent(authorities, AuthorityRegistry::parse);
+    }
+
+    private static List<GrantedAuthority> parse(String authorities) {
+        List<GrantedAuthority> grantedAuthorities = new ArrayList<>();
+        for (String authority : authorities.split(",")) {
+            if (!authority.trim().isEmpty()) {
+                grantedAuthorities.add(get(authority));
+            }
+        }
+        return Collections.unmodifiableList(grantedAuthorities);
+    }
+}
@@ -0,0 +1,152 @@
+package com.mycompany.myapp.security.jwt;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.management.SecurityMetersService;
+import io.jsonwebtoken.Claims;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded cache of the {@link TokenValidationResult} of already verified JWT tokens, so that a token presented again
+ * is neither parsed nor verified a second time.
+ * <p>
+ * Entries are keyed by the SHA-256 hash of the token and expire with the token itself. When the cache holds
+ * {@code application.token-cache.max-entries} entries, the expired ones are dropped, and the least recently used tenth
+ * if none had expired. A maximum of {@code 0} disables the cache.
+ * <p>
+ * Only the claims, login and authorities of a token are cached: each hit gets its own {@link TokenValidationResult}
+ * and authentication, which the request is free to modify.
+ */
+@Component
+public class TokenAuthenticationCache {
+
+    private final ConcurrentMap<String, CachedResult> entries = new ConcurrentHashMap<>();
+
+    private final int maxEntries;
+
+    private final SecurityMetersService securityMetersService;
+
+    public TokenAuthenticationCache(ApplicationProperties applicationProperties, SecurityMetersService securityMetersService) {
+        this.maxEntries = applicationProperties.getTokenCache().getMaxEntries();
+        this.securityMetersService = securityMetersService;
+        securityMetersService.registerTokenCacheSize(entries::size);
+    }
+
+    /**
+     * Get the validation result cached for a token.
+     *
+     * @param token the JWT token.
+     * @return a new result, or {@code null} if the token is not cached or has expired.
+     */
+    public TokenValidationResult get(String token) {
+        if (maxEntries <= 0) {
+            return null;
+        }
+        String key = hash(token);
+        CachedResult cached = entries.get(key);
+        if (cached != null && cached.expiresAt <= System.currentTimeMillis()) {
+            entries.remove(key, cached);
+            cached = null;
+        }
+        if (cached == null) {
+            securityMetersService.trackTokenCacheMiss();
+            return null;
+        }
+        securityMetersService.trackTokenCacheHit();
+        cached.lastAccess = System.nanoTime();
+        return cached.toResult(token);
+    }
+
+    /**
+     * Cache the result of a valid token until the token expires; a token which never expires is not cached.
+     *
+     * @param token the JWT token.
+     * @param result the result of the validation of the token.
+     */
+    public void put(String token, TokenValidationResult result) {
+        if (maxEntries <= 0 || !result.isValid() || result.getClaims().getExpiration() == null) {
+            return;
+        }
+        Date expiration = result.getClaims().getExpiration();
+        long now = System.currentTimeMillis();
+        if (expiration.getTime() <= now) {
+            return;
+        }
+        if (entries.size() >= maxEntries) {
+            evict(now);
+        }
+        entries.put(hash(token), new CachedResult(result, expiration.getTime()));
+    }
+
+    /**
+     * @return the number of cached tokens, including the expired ones not evicted yet.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private synchronized void evict(long now) {
+        if (entries.size() < maxEntries) {
+            // evicted by a concurrent put
+            return;
+        }
+        entries.values().removeIf(cached -> cached.expiresAt <= now);
+        int excess = entries.size() - maxEntries + 1;
+        if (excess > 0) {
+            entries
+                .entrySet()
+                .stream()
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().lastAccess))
+                .limit(Math.max(excess, maxEntries / 10))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList())
+                .forEach(entries::remove);
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class CachedResult {
+
+        private final Claims claims;
+
+        private final Object principal;
+
+        private final List<GrantedAuthority> authorities;
+
+        private final long expiresAt;
+
+        private volatile long lastAccess = System.nanoTime();
+
+        private CachedResult(TokenValidationResult result, long expiresAt) {
+            this.claims = result.getClaims();
+            this.principal = result.getAuthentication().getPrincipal();
+            this.authorities = List.copyOf(result.getAuthentication().getAuthorities());
+            this.expiresAt = expiresAt;
+        }
+
+        private TokenValidationResult toResult(String token) {
+            return TokenValidationResult.valid(claims, new UsernamePasswordAuthenticationToken(principal, token, authorities));
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.mycompany.myapp.security.jwt;
 
 import com.mycompany.myapp.management.SecurityMetersService;
+import com.mycompany.myapp.security.AuthorityRegistry;
+import com.mycompany.myapp.security.jwt.TokenValidationResult.FailureCause;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -14,8 +16,6 @@ import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.stereotype.Component;
 import org.springframework.util.ObjectUtils;
 import tech.jhipster.config.JHipsterProperties;
@@ -39,7 +39,13 @@ public class TokenProvider {
 
     private final SecurityMetersService securityMetersService;
 
-    public TokenProvider(JHipsterProperties jHipsterProperties, SecurityMetersService securityMetersService) {
+    private final TokenAuthenticationCache tokenAuthenticationCache;
+
+    public TokenProvider(
+        JHipsterProperties jHipsterProperties,
+        SecurityMetersService securityMetersService,
+        TokenAuthenticationCache tokenAuthenticationCache
+    ) {
         byte[] keyBytes;
         String secret = jHipsterProperties.getSecurity().getAuthentication().getJwt().getBase64Secret();
         if (!ObjectUtils.isEmpty(secret)) {
@@ -60,6 +66,7 @@ public class TokenProvider {
             1000 * jHipsterProperties.getSecurity().getAuthentication().getJwt().getTokenValidityInSecondsForRememberMe();
 
         this.securityMetersService = securityMetersService;
+        this.tokenAuthenticationCache = tokenAuthenticationCache;
     }
 
     public String createToken(Authentication authentication, boolean rememberMe) {
@@ -83,44 +90,72 @@ public class TokenProvider {
     }
 
     public Authentication getAuthentication(String token) {
-        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        return toAuthentication(jwtParser.parseClaimsJws(token).getBody(), token);
+    }
 
-        Collection<? extends GrantedAuthority> authorities = Arrays
-            .stream(claims.get(AUTHORITIES_KEY).toString().split(","))
-            .filter(auth -> !auth.trim().isEmpty())
-            .map(SimpleGrantedAuthority::new)
-            .collect(Collectors.toList());
+    /**
+     * Validate a token, parsing and verifying it only if it is not cached yet.
+     *
+     * @param token the JWT token.
+     * @return the claims and authentication of the token if it is valid, the cause of its rejection otherwise.
+     */
+    public TokenValidationResult validate(String token) {
+        TokenValidationResult result = tokenAuthenticationCache.get(token);
+        if (result != null) {
+            return result;
+        }
+        result = parse(token);
+        if (result.isValid()) {
+            tokenAuthenticationCache.put(token, result);
+        }
+        return result;
+    }
 
-        User principal = new User(claims.getSubject(), "", authorities);
+    public boolean validateToken(String authToken) {
+        return validate(authToken).isValid();
+    }
 
-        return new UsernamePasswordAuthenticationToken(principal, token, authorities);
+    /**
+     * Build the authentication of a verified token, with the login as principal and the shared instances of the
+     * authorities of the {@code auth} claim.
+     */
+    Authentication toAuthentication(Claims claims, String token) {
+        Object authorities = claims.get(AUTHORITIES_KEY);
+        return new UsernamePasswordAuthenticationToken(
+            claims.getSubject(),
+            token,
+            authorities == null ? Collections.emptyList() : AuthorityRegistry.fromCommaSeparated(authorities.toString())
+        );
     }
 
-    public boolean validateToken(String authToken) {
+    private TokenValidationResult parse(String authToken) {
         try {
-            jwtParser.parseClaimsJws(authToken);
+            Claims claims = jwtParser.parseClaimsJws(authToken).getBody();
 
-            return true;
+            return TokenValidationResult.valid(claims, toAuthentication(claims, authToken));
         } catch (ExpiredJwtException e) {
             this.securityMetersService.trackTokenExpired();
 
             log.trace(INVALID_JWT_TOKEN, e);
+            return TokenValidationResult.invalid(FailureCause.EXPIRED);
         } catch (UnsupportedJwtException e) {
             this.securityMetersService.trackTokenUnsupported();
 
             log.trace(INVALID_JWT_TOKEN, e);
+            return TokenValidationResult.invalid(FailureCause.UNSUPPORTED);
         } catch (MalformedJwtException e) {
             this.securityMetersService.trackTokenMalformed();
 
             log.trace(INVALID_JWT_TOKEN, e);
+            return TokenValidationResult.invalid(FailureCause.MALFORMED);
         } catch (SignatureException e) {
             this.securityMetersService.trackTokenInvalidSignature();
 
             log.trace(INVALID_JWT_TOKEN, e);
+            return TokenValidationResult.invalid(FailureCause.INVALID_SIGNATURE);
         } catch (IllegalArgumentException e) { // TODO: should we let it bubble (no catch), to avoid defensive programming and follow the fail-fast principle?
             log.error("Token validation error {}", e.getMessage());
+            return TokenValidationResult.invalid(FailureCause.INVALID);
         }
-
-        return false;
     }
 }
@@ -0,0 +1,76 @@
+package com.mycompany.myapp.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.security.core.Authentication;
+
+/**
+ * The outcome of parsing and verifying a JWT token once: the claims and authentication of a valid token, or the
+ * reason why the token was rejected.
+ */
+public final class TokenValidationResult {
+
+    /**
+     * Reason why a token was rejected.
+     */
+    public enum FailureCause {
+        EXPIRED,
+        UNSUPPORTED,
+        MALFORMED,
+        INVALID_SIGNATURE,
+        INVALID,
+    }
+
+    private final Claims claims;
+
+    private final Authentication authentication;
+
+    private final FailureCause failureCause;
+
+    private TokenValidationResult(Claims claims, Authentication authentication, FailureCause failureCause) {
+        this.claims = claims;
+        this.authentication = authentication;
+        this.failureCause = failureCause;
+    }
+
+    public static TokenValidationResult valid(Claims claims, Authentication authentication) {
+        return new TokenValidationResult(claims, authentication, null);
+    }
+
+    public static TokenValidationResult invalid(FailureCause failureCause) {
+        return new TokenValidationResult(null, null, failureCause);
+    }
+
+    public boolean isValid() {
+        return failureCause == null;
+    }
+
+    /**
+     * @return the claims of the token, shared by the validations of a cached token and not to be modified, or
+     * {@code null} if the token is not valid.
+     */
+    public Claims getClaims() {
+        return claims;
+    }
+
+    /**
+     * @return the authentication built from the token, or {@code null} if the token is not valid.
+     */
+    public Authentication getAuthentication() {
+        return authentication;
+    }
+
+    /**
+     * @return why the token was rejected, or {@code null} if the token is valid.
+     */
+    public FailureCause getFailureCause() {
+        return failureCause;
+    }
+
+    @Override
+    public String toString() {
+        if (isValid()) {
+            return "TokenValidationResult{subject=" + claims.getSubject() + "}";
+        }
+        return "TokenValidationResult{failureCause=" + failureCause + "}";
+    }
+}
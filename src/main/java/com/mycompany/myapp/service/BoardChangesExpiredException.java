@@ -0,0 +1,12 @@
+package com.mycompany.myapp.service;
+
+import java.time.Instant;
+
+public class BoardChangesExpiredException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public BoardChangesExpiredException(Instant since) {
+        super("The deletions since " + since + " are no longer kept, reload the board");
+    }
+}
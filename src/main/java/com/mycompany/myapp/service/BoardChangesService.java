@@ -0,0 +1,265 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.Board;
+import com.mycompany.myapp.domain.Card;
+import com.mycompany.myapp.domain.Line;
+import com.mycompany.myapp.domain.Tombstone;
+import com.mycompany.myapp.domain.enumeration.BoardItemType;
+import com.mycompany.myapp.repository.BoardRepository;
+import com.mycompany.myapp.repository.CardRepository;
+import com.mycompany.myapp.repository.LineRepository;
+import com.mycompany.myapp.repository.TombstoneRepository;
+import com.mycompany.myapp.service.dto.BoardChangesDTO;
+import com.mycompany.myapp.service.dto.BoardEventDTO;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service for syncing boards incrementally.
+ * <p>
+ * Created and updated lines and cards are found by their {@code lastModifiedDate}. Deleted ones, and those moved to
+ * another board, leave a {@link Tombstone} in the board they left, kept for {@code application.changes.tombstone-retention}.
+ * <p>
+ * Each change is also published as a {@link BoardEventDTO}, pushed to the clients watching the board after commit.
+ */
+@Service
+@Transactional
+public class BoardChangesService {
+
+    private final Logger log = LoggerFactory.getLogger(BoardChangesService.class);
+
+    private final BoardRepository boardRepository;
+
+    private final LineRepository lineRepository;
+
+    private final CardRepository cardRepository;
+
+    private final TombstoneRepository tombstoneRepository;
+
+    private final Duration overlap;
+
+    private final Duration tombstoneRetention;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public BoardChangesService(
+        BoardRepository boardRepository,
+        LineRepository lineRepository,
+        CardRepository cardRepository,
+        TombstoneRepository tombstoneRepository,
+        ApplicationProperties applicationProperties,
+        ApplicationEventPublisher applicationEventPublisher
+    ) {
+        this.boardRepository = boardRepository;
+        this.lineRepository = lineRepository;
+        this.cardRepository = cardRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.overlap = applicationProperties.getChanges().getOverlap();
+        this.tombstoneRetention = applicationProperties.getChanges().getTombstoneRetention();
+        this.applicationEventPublisher = applicationEventPublisher;
+    }
+
+    /**
+     * Get the changes of a board since the given time.
+     *
+     * @param boardId the id of the board.
+     * @param since the time of the previous sync, the {@code until} of its changes.
+     * @return the changes, only the tombstone of the board if it was deleted, or empty if there is no such board.
+     * @throws BoardChangesExpiredException if the deletions since this time may have been purged already.
+     */
+    @Transactional(readOnly = true)
+    public Optional<BoardChangesDTO> findChanges(Long boardId, Instant since) {
+        log.debug("Request to get the changes of Board : {} since {}", boardId, since);
+        Instant until = Instant.now();
+        if (since.isBefore(until.minus(tombstoneRetention))) {
+            throw new BoardChangesExpiredException(since);
+        }
+        Instant from = since.minus(overlap);
+        BoardChangesDTO changes = new BoardChangesDTO();
+        changes.setSince(since);
+        changes.setUntil(until);
+        List<Tombstone> deleted = new ArrayList<>(tombstoneRepository.findAllByBoardIdAndDeletedDateAfterOrderByDeletedDate(boardId, from));
+
+        Optional<Board> board = boardRepository.findById(boardId);
+        if (board.isEmpty()) {
+            deleted.removeIf(tombstone -> tombstone.getEntityType() != BoardItemType.BOARD);
+            changes.setDeleted(deleted);
+            return deleted.isEmpty() ? Optional.empty() : Optional.of(changes);
+        }
+        board.filter(b -> b.getLastModifiedDate() == null || b.getLastModifiedDate().isAfter(from)).ifPresent(changes::setBoard);
+        changes.setLines(lineRepository.findAllByBoardIdModifiedAfter(boardId, from));
+        changes.setCards(cardRepository.findAllByBoardIdModifiedAfter(boardId, from));
+
+        // an item moved to another board and back is in the board again, its tombstone is obsolete
+        Set<Long> lineIds = changes.getLines().stream().map(Line::getId).collect(Collectors.toSet());
+        Set<Long> cardIds = changes.getCards().stream().map(Card::getId).collect(Collectors.toSet());
+        deleted.removeIf(tombstone ->
+            (tombstone.getEntityType() == BoardItemType.LINE && lineIds.contains(tombstone.getEntityId())) ||
+            (tombstone.getEntityType() == BoardItemType.CARD && cardIds.contains(tombstone.getEntityId()))
+        );
+        changes.setDeleted(deleted);
+        return Optional.of(changes);
+    }
+
+    /**
+     * Record the update of a board.
+     *
+     * @param boardId the id of the board.
+     */
+    public void recordBoardUpdate(Long boardId) {
+        publish(BoardEventDTO.Type.UPDATED, BoardItemType.BOARD, boardId, boardId);
+    }
+
+    /**
+     * Record the deletion of a board.
+     *
+     * @param boardId the id of the deleted board.
+     */
+    public void recordBoardDeletion(Long boardId) {
+        record(BoardItemType.BOARD, boardId, boardId);
+        publish(BoardEventDTO.Type.DELETED, BoardItemType.BOARD, boardId, boardId);
+    }
+
+    /**
+     * Record the creation of a line.
+     *
+     * @param line the created line, with its id.
+     */
+    public void recordLineCreation(Line line) {
+        publish(BoardEventDTO.Type.CREATED, BoardItemType.LINE, line.getId(), idOf(line.getBoard()));
+    }
+
+    /**
+     * Record the update of a line, possibly moved to another board.
+     *
+     * @param lineId the id of the line.
+     * @param from the board of the line before.
+     * @param to the board of the line after.
+     */
+    public void recordLineUpdate(Long lineId, Board from, Board to) {
+        Long fromBoardId = idOf(from);
+        Long toBoardId = idOf(to);
+        boolean moved = fromBoardId != null && !fromBoardId.equals(toBoardId);
+        if (moved) {
+            record(BoardItemType.LINE, lineId, fromBoardId);
+            publish(BoardEventDTO.Type.MOVED, BoardItemType.LINE, lineId, fromBoardId);
+        }
+        publish(moved ? BoardEventDTO.Type.MOVED : BoardEventDTO.Type.UPDATED, BoardItemType.LINE, lineId, toBoardId);
+    }
+
+    /**
+     * Record the deletion of a line.
+     *
+     * @param lineId the id of the deleted line.
+     * @param board the board of the line.
+     */
+    public void recordLineDeletion(Long lineId, Board board) {
+        Long boardId = idOf(board);
+        if (boardId != null) {
+            record(BoardItemType.LINE, lineId, boardId);
+            publish(BoardEventDTO.Type.DELETED, BoardItemType.LINE, lineId, boardId);
+        }
+    }
+
+    /**
+     * Record the creation of a card.
+     *
+     * @param card the created card, with its id.
+     */
+    public void recordCardCreation(Card card) {
+        publish(BoardEventDTO.Type.CREATED, BoardItemType.CARD, card.getId(), boardIdOf(card.getLine()));
+    }
+
+    /**
+     * Record the update of a card, possibly moved to another line.
+     *
+     * @param cardId the id of the card.
+     * @param from the line of the card before.
+     * @param to the line of the card after.
+     */
+    public void recordCardUpdate(Long cardId, Line from, Line to) {
+        if (Objects.equals(idOf(from), idOf(to))) {
+            publish(BoardEventDTO.Type.UPDATED, BoardItemType.CARD, cardId, boardIdOf(to));
+            return;
+        }
+        Long fromBoardId = boardIdOf(from);
+        Long toBoardId = boardIdOf(to);
+        if (fromBoardId != null && !fromBoardId.equals(toBoardId)) {
+            record(BoardItemType.CARD, cardId, fromBoardId);
+            publish(BoardEventDTO.Type.MOVED, BoardItemType.CARD, cardId, fromBoardId);
+        }
+        publish(BoardEventDTO.Type.MOVED, BoardItemType.CARD, cardId, toBoardId);
+    }
+
+    /**
+     * Record the deletion of a card.
+     *
+     * @param cardId the id of the deleted card.
+     * @param line the line of the card.
+     */
+    public void recordCardDeletion(Long cardId, Line line) {
+        Long boardId = boardIdOf(line);
+        if (boardId != null) {
+            record(BoardItemType.CARD, cardId, boardId);
+            publish(BoardEventDTO.Type.DELETED, BoardItemType.CARD, cardId, boardId);
+        }
+    }
+
+    /**
+     * Purge the tombstones older than {@code application.changes.tombstone-retention}.
+     * <p>
+     * This is scheduled to get fired everyday, at 02:00 (am).
+     */
+    @Scheduled(cron = "0 0 2 * * ?")
+    public void purgeTombstones() {
+        int purged = tombstoneRepository.deleteAllByDeletedDateBefore(Instant.now().minus(tombstoneRetention));
+        log.debug("Purged {} tombstones", purged);
+    }
+
+    /**
+     * The event is delivered once the transaction commits, see {@link org.springframework.transaction.event.TransactionalEventListener}.
+     */
+    private void publish(BoardEventDTO.Type type, BoardItemType entityType, Long entityId, Long boardId) {
+        if (boardId != null) {
+            applicationEventPublisher.publishEvent(new BoardEventDTO(type, entityType, entityId, boardId));
+        }
+    }
+
+    private void record(BoardItemType entityType, Long entityId, Long boardId) {
+        log.debug("Request to record the removal of {} : {} from Board : {}", entityType, entityId, boardId);
+        tombstoneRepository.save(
+            new Tombstone().entityType(entityType).entityId(entityId).boardId(boardId).deletedDate(Instant.now())
+        );
+    }
+
+    /**
+     * The board of a line as stored: a line sent by a client may lack its board.
+     */
+    private Long boardIdOf(Line line) {
+        if (line == null || line.getId() == null) {
+            return null;
+        }
+        return lineRepository.findById(line.getId()).map(Line::getBoard).map(Board::getId).orElse(null);
+    }
+
+    private static Long idOf(Line line) {
+        return line == null ? null : line.getId();
+    }
+
+    private static Long idOf(Board board) {
+        return board == null ? null : board.getId();
+    }
+}
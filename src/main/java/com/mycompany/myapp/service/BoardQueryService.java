@@ -5,12 +5,15 @@ import com.mycompany.myapp.domain.Board;
 import com.mycompany.myapp.repository.BoardRepository;
 import com.mycompany.myapp.service.criteria.BoardCriteria;
 import java.util.List;
+import java.util.OptionalLong;
 import javax.persistence.criteria.JoinType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import tech.jhipster.service.QueryService;
@@ -58,6 +61,49 @@ public class BoardQueryService extends QueryService<Board> {
         return boardRepository.findAll(specification, page);
     }
 
+    /**
+     * Return a {@link Slice} of {@link Board} which matches the criteria from the database, without counting them.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Slice<Board> findSliceByCriteria(BoardCriteria criteria, Pageable page) {
+        log.debug("find slice by criteria : {}, page: {}", criteria, page);
+        final Specification<Board> specification = createSpecification(criteria);
+        return boardRepository.findSlice(specification, page, Board.class);
+    }
+
+    /**
+     * Return a {@link Page} of {@link Board} which matches the criteria from the database, with an estimated total.
+     * Without filters, the total comes from the database planner statistics when available; otherwise it is counted.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<Board> findByCriteriaWithEstimatedCount(BoardCriteria criteria, Pageable page) {
+        log.debug("find by criteria with estimated count : {}, page: {}", criteria, page);
+        final Specification<Board> specification = createSpecification(criteria);
+        Slice<Board> slice = boardRepository.findSlice(specification, page, Board.class);
+        return PageableExecutionUtils.getPage(slice.getContent(), page, () -> estimateCount(criteria, specification));
+    }
+
+    /**
+     * Return a {@link Slice} of {@link Board} which matches the criteria from the database, using keyset pagination.
+     * The entities are ordered by id and no count query is issued.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param after The id of the last entity of the previous slice, or {@code null} for the first slice.
+     * @param size The maximum number of entities to return.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Slice<Board> findByCriteriaAfter(BoardCriteria criteria, Long after, int size) {
+        log.debug("find by criteria : {}, after: {}, size: {}", criteria, after, size);
+        final Specification<Board> specification = createSpecification(criteria);
+        return boardRepository.findAllAfter(specification, Board_.id, after, size);
+    }
+
     /**
      * Return the number of matching entities in the database.
      * @param criteria The object which holds all the filters, which the entities should match.
@@ -70,6 +116,16 @@ public class BoardQueryService extends QueryService<Board> {
         return boardRepository.count(specification);
     }
 
+    private long estimateCount(BoardCriteria criteria, Specification<Board> specification) {
+        if (criteria == null || new BoardCriteria().equals(criteria)) {
+            OptionalLong estimate = boardRepository.estimateCount(Board.class);
+            if (estimate.isPresent()) {
+                return estimate.getAsLong();
+            }
+        }
+        return boardRepository.count(specification);
+    }
+
     /**
      * Function to convert {@link BoardCriteria} to a {@link Specification}
      * @param criteria The object which holds all the filters, which the entities should match.
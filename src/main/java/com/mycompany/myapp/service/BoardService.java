@@ -1,16 +1,20 @@
 package com.mycompany.myapp.service;
 
+import com.mycompany.myapp.config.ApplicationProperties;
 import com.mycompany.myapp.domain.Board;
-//import com.mycompany.myapp.domain.Board_;
+import com.mycompany.myapp.domain.BoardTemplate;
 import com.mycompany.myapp.domain.Line;
 import com.mycompany.myapp.repository.BoardRepository;
+import com.mycompany.myapp.repository.BoardTemplateRepository;
 import com.mycompany.myapp.repository.LineRepository;
-import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,42 +29,78 @@ public class BoardService {
 
     private final BoardRepository boardRepository;
     private final LineRepository lineRepository;
-
-    public BoardService(BoardRepository boardRepository, LineRepository lineRepository) {
+    private final BoardTemplateRepository boardTemplateRepository;
+    private final ApplicationProperties applicationProperties;
+    private final QueryResultCache queryResultCache;
+    private final BoardChangesService boardChangesService;
+
+    public BoardService(
+        BoardRepository boardRepository,
+        LineRepository lineRepository,
+        BoardTemplateRepository boardTemplateRepository,
+        ApplicationProperties applicationProperties,
+        QueryResultCache queryResultCache,
+        BoardChangesService boardChangesService
+    ) {
         this.boardRepository = boardRepository;
         this.lineRepository = lineRepository;
+        this.boardTemplateRepository = boardTemplateRepository;
+        this.applicationProperties = applicationProperties;
+        this.queryResultCache = queryResultCache;
+        this.boardChangesService = boardChangesService;
     }
 
     /**
-     * Save a board.
+     * Save a board, with the lines of the default board template.
      *
      * @param board the entity to save.
      * @return the persisted entity.
      */
     public Board save(Board board) {
-        log.debug("Request to save Board : {}", board);
-        //return boardRepository.save(board);
-        board = boardRepository.save(board);
-
-        for (String title : Arrays.asList("todo", "doing", "done")) {
-            Line line = new Line().title(title).board(board);
-            lineRepository.save(line);
-        }
-
-        //lineRepository.save(line);
+        return save(board, applicationProperties.getBoard().getDefaultTemplate());
+    }
 
-        return board;
-        //return boardRepository.save(board);
+    /**
+     * Save a board, with the lines of the given board template.
+     *
+     * @param board the entity to save.
+     * @param templateName the name of the {@link BoardTemplate} whose lines are created with the board.
+     * @return the persisted entity.
+     * @throws BoardTemplateNotFoundException if there is no template with this name.
+     */
+    public Board save(Board board, String templateName) {
+        log.debug("Request to save Board : {} with template : {}", board, templateName);
+        BoardTemplate template = boardTemplateRepository
+            .findOneWithLineTitlesByName(templateName)
+            .orElseThrow(() -> new BoardTemplateNotFoundException(templateName));
+        Board result = boardRepository.save(board);
+
+        // ids come from the pooled sequence block and all inserts go out as one JDBC batch at flush
+        List<Line> lines = template.getLineTitles().stream().map(title -> new Line().title(title).board(result)).collect(Collectors.toList());
+        lineRepository.saveAll(lines);
+        lines.forEach(boardChangesService::recordLineCreation);
+        queryResultCache.invalidate(QueryResultCache.LINES_BY_CRITERIA_CACHE, result.getId());
+
+        return result;
     }
 
     /**
      * Update a board.
+     * <p>
+     * A board without version overwrites the current one; otherwise it must be the current version.
      *
      * @param board the entity to save.
      * @return the persisted entity.
+     * @throws ObjectOptimisticLockingFailureException if the board was modified since the given version.
      */
     public Board update(Board board) {
         log.debug("Request to update Board : {}", board);
+        if (board.getVersion() == null) {
+            boardRepository.findById(board.getId()).ifPresent(existingBoard -> board.setVersion(existingBoard.getVersion()));
+        }
+        // the lines are returned with their board
+        queryResultCache.invalidate(QueryResultCache.LINES_BY_CRITERIA_CACHE, board.getId());
+        boardChangesService.recordBoardUpdate(board.getId());
         return boardRepository.save(board);
     }
 
@@ -69,6 +109,7 @@ public class BoardService {
      *
      * @param board the entity to update partially.
      * @return the persisted entity.
+     * @throws ObjectOptimisticLockingFailureException if a version is given and the board was modified since.
      */
     public Optional<Board> partialUpdate(Board board) {
         log.debug("Request to partially update Board : {}", board);
@@ -76,9 +117,14 @@ public class BoardService {
         return boardRepository
             .findById(board.getId())
             .map(existingBoard -> {
+                if (board.getVersion() != null && !board.getVersion().equals(existingBoard.getVersion())) {
+                    throw new ObjectOptimisticLockingFailureException(Board.class, board.getId());
+                }
                 if (board.getTitle() != null) {
                     existingBoard.setTitle(board.getTitle());
                 }
+                queryResultCache.invalidate(QueryResultCache.LINES_BY_CRITERIA_CACHE, existingBoard.getId());
+                boardChangesService.recordBoardUpdate(existingBoard.getId());
 
                 return existingBoard;
             })
@@ -109,6 +155,18 @@ public class BoardService {
         return boardRepository.findById(id);
     }
 
+    /**
+     * Get one board by id, with its lines and their cards, in a single query.
+     *
+     * @param id the id of the entity.
+     * @return the entity with its lines and cards initialized.
+     */
+    @Transactional(readOnly = true)
+    public Optional<Board> findOneWithLinesAndCards(Long id) {
+        log.debug("Request to get Board snapshot : {}", id);
+        return boardRepository.findOneWithLinesAndCardsById(id);
+    }
+
     /**
      * Delete the board by id.
      *
@@ -116,6 +174,10 @@ public class BoardService {
      */
     public void delete(Long id) {
         log.debug("Request to delete Board : {}", id);
+        queryResultCache.invalidate(QueryResultCache.LINES_BY_CRITERIA_CACHE, id);
+        if (boardRepository.existsById(id)) {
+            boardChangesService.recordBoardDeletion(id);
+        }
         boardRepository.deleteById(id);
     }
 }
@@ -0,0 +1,10 @@
+package com.mycompany.myapp.service;
+
+public class BoardTemplateNotFoundException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public BoardTemplateNotFoundException(String name) {
+        super("Board template not found: " + name);
+    }
+}
@@ -0,0 +1,85 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.domain.BoardTemplate;
+import com.mycompany.myapp.repository.BoardTemplateRepository;
+import java.util.List;
+import java.util.Objects;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Service Implementation for managing {@link BoardTemplate}.
+ */
+@Service
+@Transactional
+public class BoardTemplateService {
+
+    private final Logger log = LoggerFactory.getLogger(BoardTemplateService.class);
+
+    private final BoardTemplateRepository boardTemplateRepository;
+
+    private final CacheManager cacheManager;
+
+    public BoardTemplateService(BoardTemplateRepository boardTemplateRepository, CacheManager cacheManager) {
+        this.boardTemplateRepository = boardTemplateRepository;
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * Save a board template.
+     *
+     * @param boardTemplate the entity to save.
+     * @return the persisted entity.
+     */
+    public BoardTemplate save(BoardTemplate boardTemplate) {
+        log.debug("Request to save BoardTemplate : {}", boardTemplate);
+        BoardTemplate result = boardTemplateRepository.save(boardTemplate);
+        clearBoardTemplateCache();
+        return result;
+    }
+
+    /**
+     * Get all the board templates, with their line titles.
+     *
+     * @return the list of entities.
+     */
+    @Transactional(readOnly = true)
+    public List<BoardTemplate> findAll() {
+        log.debug("Request to get all BoardTemplates");
+        return boardTemplateRepository.findAllWithLineTitlesBy();
+    }
+
+    /**
+     * Delete the board template by id.
+     *
+     * @param id the id of the entity.
+     */
+    public void delete(Long id) {
+        log.debug("Request to delete BoardTemplate : {}", id);
+        boardTemplateRepository.deleteById(id);
+        clearBoardTemplateCache();
+    }
+
+    // templates are few and rarely written: dropping the whole cache also covers renames. It is dropped again once the
+    // transaction completes, as a concurrent read may have cached the template as it was before the commit
+    private void clearBoardTemplateCache() {
+        Cache cache = Objects.requireNonNull(cacheManager.getCache(BoardTemplateRepository.BOARD_TEMPLATES_BY_NAME_CACHE));
+        cache.clear();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        cache.clear();
+                    }
+                }
+            );
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.domain.User;
+import com.mycompany.myapp.repository.BoardRepository;
+import com.mycompany.myapp.repository.UserRepository;
+import java.util.List;
+import javax.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service loading the data most likely to be requested first into the caches, so that the first requests after a
+ * start do not all reach the database.
+ */
+@Service
+public class CacheWarmUpService {
+
+    private final Logger log = LoggerFactory.getLogger(CacheWarmUpService.class);
+
+    private final BoardRepository boardRepository;
+
+    private final UserRepository userRepository;
+
+    private final EntityManager entityManager;
+
+    public CacheWarmUpService(BoardRepository boardRepository, UserRepository userRepository, EntityManager entityManager) {
+        this.boardRepository = boardRepository;
+        this.userRepository = userRepository;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Load the most recently created boards with their lines and cards into the second level cache.
+     *
+     * @param count the number of boards to load.
+     * @return the number of boards loaded.
+     */
+    @Transactional(readOnly = true)
+    public int warmUpBoards(int count) {
+        if (count <= 0) {
+            return 0;
+        }
+        List<Long> ids = boardRepository.findLatestIds(PageRequest.of(0, count));
+        for (Long id : ids) {
+            boardRepository.findOneWithLinesAndCardsById(id);
+            // the loaded entities are in the second level cache now, keep the persistence context small
+            entityManager.clear();
+        }
+        log.debug("Warmed up {} Boards", ids.size());
+        return ids.size();
+    }
+
+    /**
+     * Load the most recently modified activated users with their authorities into the users by login cache.
+     *
+     * @param count the number of users to load.
+     * @return the number of users loaded.
+     */
+    public int warmUpUsers(int count) {
+        if (count <= 0) {
+            return 0;
+        }
+        List<String> logins = userRepository
+            .findAllByIdNotNullAndActivatedIsTrue(PageRequest.of(0, count, Sort.by(Sort.Direction.DESC, "lastModifiedDate")))
+            .map(User::getLogin)
+            .getContent();
+        logins.forEach(userRepository::findOneWithAuthoritiesByLogin);
+        log.debug("Warmed up {} Users", logins.size());
+        return logins.size();
+    }
+}
@@ -0,0 +1,249 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.Card;
+import com.mycompany.myapp.domain.Line;
+import com.mycompany.myapp.repository.CardRepository;
+import com.mycompany.myapp.service.dto.BulkItemResultDTO;
+import com.mycompany.myapp.service.dto.BulkItemResultDTO.Status;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service for creating, updating and deleting many {@link Card}s at once.
+ * <p>
+ * Items are processed in chunks of {@code application.bulk.chunk-size}, each chunk in its own transaction. A chunk is
+ * flushed once, so Hibernate groups its statements into JDBC batches ({@code hibernate.jdbc.batch_size},
+ * {@code hibernate.order_inserts}). Invalid items are reported individually and do not affect the rest of the chunk;
+ * a database failure rolls back the chunk it happened in and reports its other items as failed, without the ids the
+ * rolled back creations were given. Previous chunks stay committed.
+ */
+@Service
+public class CardBulkService {
+
+    /**
+     * The statuses of the items written by a chunk, which a failure of the chunk rolls back.
+     */
+    private static final Set<Status> WRITTEN = EnumSet.of(Status.CREATED, Status.UPDATED, Status.DELETED);
+
+    private final Logger log = LoggerFactory.getLogger(CardBulkService.class);
+
+    private final CardRepository cardRepository;
+
+    private final EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final QueryResultCache queryResultCache;
+
+    private final BoardChangesService boardChangesService;
+
+    private final CardPositionService cardPositionService;
+
+    private final int chunkSize;
+
+    public CardBulkService(
+        CardRepository cardRepository,
+        EntityManager entityManager,
+        PlatformTransactionManager transactionManager,
+        QueryResultCache queryResultCache,
+        BoardChangesService boardChangesService,
+        CardPositionService cardPositionService,
+        ApplicationProperties applicationProperties
+    ) {
+        this.cardRepository = cardRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queryResultCache = queryResultCache;
+        this.boardChangesService = boardChangesService;
+        this.cardPositionService = cardPositionService;
+        this.chunkSize = Math.max(1, applicationProperties.getBulk().getChunkSize());
+    }
+
+    /**
+     * Create cards in chunked, JDBC-batched transactions. The cards without position are placed after the last card of
+     * their line, in request order.
+     *
+     * @param cards the cards to create.
+     * @return one result per card, in request order.
+     */
+    public List<BulkItemResultDTO> createAll(List<Card> cards) {
+        log.debug("Request to bulk create {} Cards", cards.size());
+        // the ids assigned to the cards of a failed chunk were rolled back with it
+        return processInChunks(cards, card -> null, this::createChunk);
+    }
+
+    /**
+     * Update cards in chunked, JDBC-batched transactions.
+     *
+     * @param cards the cards to update.
+     * @return one result per card, in request order.
+     */
+    public List<BulkItemResultDTO> updateAll(List<Card> cards) {
+        log.debug("Request to bulk update {} Cards", cards.size());
+        return processInChunks(cards, Card::getId, this::updateChunk);
+    }
+
+    /**
+     * Delete cards in chunked, JDBC-batched transactions.
+     *
+     * @param ids the ids of the cards to delete.
+     * @return one result per id, in request order.
+     */
+    public List<BulkItemResultDTO> deleteAll(List<Long> ids) {
+        log.debug("Request to bulk delete {} Cards", ids.size());
+        return processInChunks(ids, Function.identity(), this::deleteChunk);
+    }
+
+    private <T> List<BulkItemResultDTO> processInChunks(List<T> items, Function<T, Long> idOf, ChunkOperation<T> operation) {
+        List<BulkItemResultDTO> results = new ArrayList<>(items.size());
+        for (int offset = 0; offset < items.size(); offset += chunkSize) {
+            final int chunkOffset = offset;
+            List<T> chunk = items.subList(offset, Math.min(offset + chunkSize, items.size()));
+            List<BulkItemResultDTO> chunkResults = new ArrayList<>(chunk.size());
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    // a chunk writes to many lines, the cached card pages are invalidated at once
+                    queryResultCache.invalidateAll(QueryResultCache.CARDS_BY_CRITERIA_CACHE);
+                    operation.apply(chunkOffset, chunk, chunkResults);
+                });
+                results.addAll(chunkResults);
+            } catch (RuntimeException e) {
+                log.warn("Bulk chunk starting at item {} failed: {}", chunkOffset, e.getMessage());
+                for (int i = 0; i < chunk.size(); i++) {
+                    // the items rejected before the failure keep their result, the others were rolled back
+                    BulkItemResultDTO result = i < chunkResults.size() ? chunkResults.get(i) : null;
+                    if (result != null && !WRITTEN.contains(result.getStatus())) {
+                        results.add(result);
+                    } else {
+                        T item = chunk.get(i);
+                        Long id = item == null ? null : idOf.apply(item);
+                        results.add(BulkItemResultDTO.failure(chunkOffset + i, id, Status.FAILED, e.getMessage()));
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
+    private void createChunk(int offset, List<Card> chunk, List<BulkItemResultDTO> results) {
+        // read before the first persist, which a query would flush
+        Map<Long, Double> nextPositions = cardPositionService.nextPositions(
+            chunk
+                .stream()
+                .filter(card -> card != null && card.getPosition() == null && card.getLine() != null)
+                .map(card -> card.getLine().getId())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet())
+        );
+        for (int i = 0; i < chunk.size(); i++) {
+            Card card = chunk.get(i);
+            if (card == null) {
+                results.add(BulkItemResultDTO.failure(offset + i, null, Status.INVALID, "A card is required"));
+            } else if (card.getId() != null) {
+                results.add(BulkItemResultDTO.failure(offset + i, card.getId(), Status.INVALID, "A new card cannot already have an ID"));
+            } else {
+                resolveLine(card);
+                Long lineId = card.getLine() == null ? null : card.getLine().getId();
+                if (card.getPosition() == null && lineId != null) {
+                    double position = nextPositions.get(lineId);
+                    card.setPosition(position);
+                    nextPositions.put(lineId, position + CardPositionService.GAP);
+                }
+                // the sequence generator assigns the id on persist, the insert itself is deferred to the batched flush
+                entityManager.persist(card);
+                boardChangesService.recordCardCreation(card);
+                results.add(BulkItemResultDTO.success(offset + i, card.getId(), Status.CREATED));
+            }
+        }
+        flushAndClear();
+    }
+
+    private void updateChunk(int offset, List<Card> chunk, List<BulkItemResultDTO> results) {
+        Map<Long, Card> existing = cardRepository
+            .findAllById(chunk.stream().filter(Objects::nonNull).map(Card::getId).filter(Objects::nonNull).collect(Collectors.toSet()))
+            .stream()
+            .collect(Collectors.toMap(Card::getId, Function.identity()));
+        for (int i = 0; i < chunk.size(); i++) {
+            Card card = chunk.get(i);
+            if (card == null || card.getId() == null) {
+                results.add(BulkItemResultDTO.failure(offset + i, null, Status.INVALID, "Invalid id"));
+            } else if (!existing.containsKey(card.getId())) {
+                results.add(BulkItemResultDTO.failure(offset + i, card.getId(), Status.NOT_FOUND, "Entity not found"));
+            } else if (card.getVersion() != null && !card.getVersion().equals(existing.get(card.getId()).getVersion())) {
+                results.add(BulkItemResultDTO.failure(offset + i, card.getId(), Status.CONFLICT, "Entity modified since this version"));
+            } else {
+                if (card.getVersion() == null) {
+                    card.setVersion(existing.get(card.getId()).getVersion());
+                }
+                if (card.getPosition() == null) {
+                    card.setPosition(existing.get(card.getId()).getPosition());
+                }
+                resolveLine(card);
+                boardChangesService.recordCardUpdate(card.getId(), existing.get(card.getId()).getLine(), card.getLine());
+                entityManager.merge(card);
+                results.add(BulkItemResultDTO.success(offset + i, card.getId(), Status.UPDATED));
+            }
+        }
+        flushAndClear();
+    }
+
+    private void deleteChunk(int offset, List<Long> chunk, List<BulkItemResultDTO> results) {
+        Map<Long, Card> existing = cardRepository
+            .findAllById(chunk.stream().filter(Objects::nonNull).collect(Collectors.toSet()))
+            .stream()
+            .collect(Collectors.toMap(Card::getId, Function.identity()));
+        for (int i = 0; i < chunk.size(); i++) {
+            Long id = chunk.get(i);
+            if (id == null) {
+                results.add(BulkItemResultDTO.failure(offset + i, null, Status.INVALID, "Invalid id"));
+            } else {
+                Card card = existing.remove(id);
+                if (card == null) {
+                    results.add(BulkItemResultDTO.failure(offset + i, id, Status.NOT_FOUND, "Entity not found"));
+                } else {
+                    boardChangesService.recordCardDeletion(id, card.getLine());
+                    entityManager.remove(card);
+                    results.add(BulkItemResultDTO.success(offset + i, id, Status.DELETED));
+                }
+            }
+        }
+        flushAndClear();
+    }
+
+    /**
+     * A line given by its id only, without version, would be taken by Hibernate for a new line: it is replaced by a
+     * reference to the persistent one.
+     */
+    private void resolveLine(Card card) {
+        Line line = card.getLine();
+        if (line != null && line.getId() != null && line.getVersion() == null) {
+            card.setLine(entityManager.getReference(Line.class, line.getId()));
+        }
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    /**
+     * Process a chunk, adding the result of each of its items, in order, as it is processed.
+     */
+    @FunctionalInterface
+    private interface ChunkOperation<T> {
+        void apply(int offset, List<T> chunk, List<BulkItemResultDTO> results);
+    }
+}
@@ -0,0 +1,129 @@
+package com.mycompany.myapp.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.Card;
+import com.mycompany.myapp.service.criteria.CardCriteria;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import javax.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service for exporting {@link Card}s matching a {@link CardCriteria} in a streaming fashion.
+ * <p>
+ * The cards are read from a database cursor and written to the output one at a time; the persistence context is
+ * cleared every {@code application.export.fetch-size} cards, so the memory used does not depend on the number of
+ * exported cards.
+ */
+@Service
+@Transactional(readOnly = true)
+public class CardExportService {
+
+    private static final String[] CSV_HEADER = { "id", "title", "level", "desc", "lineId" };
+
+    private final Logger log = LoggerFactory.getLogger(CardExportService.class);
+
+    private final CardQueryService cardQueryService;
+
+    private final EntityManager entityManager;
+
+    private final ObjectWriter objectWriter;
+
+    private final int fetchSize;
+
+    public CardExportService(
+        CardQueryService cardQueryService,
+        EntityManager entityManager,
+        ObjectMapper objectMapper,
+        ApplicationProperties applicationProperties
+    ) {
+        this.cardQueryService = cardQueryService;
+        this.entityManager = entityManager;
+        this.objectWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE).withRootValueSeparator("");
+        this.fetchSize = Math.max(1, applicationProperties.getExport().getFetchSize());
+    }
+
+    /**
+     * Write the cards matching the criteria to the output, ordered by id.
+     *
+     * @param criteria the criteria which the exported cards should match.
+     * @param format the format of the export.
+     * @param out the output to write to, flushed but not closed.
+     * @return the number of exported cards.
+     * @throws IOException if the output cannot be written.
+     */
+    public long export(CardCriteria criteria, CardFileFormat format, OutputStream out) throws IOException {
+        log.debug("Request to export Cards as {} by criteria: {}", format, criteria);
+        try (Stream<Card> cards = cardQueryService.streamByCriteria(criteria, fetchSize)) {
+            long count = format == CardFileFormat.CSV ? writeCsv(cards.iterator(), out) : writeNdjson(cards.iterator(), out);
+            log.debug("Exported {} Cards as {}", count, format);
+            return count;
+        }
+    }
+
+    private long writeNdjson(Iterator<Card> cards, OutputStream out) throws IOException {
+        JsonGenerator generator = objectWriter.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        long count = 0;
+        while (cards.hasNext()) {
+            objectWriter.writeValue(generator, cards.next());
+            generator.writeRaw('\n');
+            clearEvery(++count);
+        }
+        generator.flush();
+        return count;
+    }
+
+    private long writeCsv(Iterator<Card> cards, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(String.join(",", CSV_HEADER));
+        writer.write("\r\n");
+        long count = 0;
+        while (cards.hasNext()) {
+            Card card = cards.next();
+            writer.write(String.valueOf(card.getId()));
+            writer.write(',');
+            writer.write(csvField(card.getTitle()));
+            writer.write(',');
+            writer.write(card.getLevel() == null ? "" : card.getLevel().toString());
+            writer.write(',');
+            writer.write(csvField(card.getDesc()));
+            writer.write(',');
+            writer.write(card.getLine() == null ? "" : String.valueOf(card.getLine().getId()));
+            writer.write("\r\n");
+            clearEvery(++count);
+        }
+        writer.flush();
+        return count;
+    }
+
+    private void clearEvery(long count) {
+        // detach what has been written, so that the persistence context never holds more than one fetch of cards
+        if (count % fetchSize == 0) {
+            entityManager.clear();
+        }
+    }
+
+    private static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.chars().anyMatch(c -> c == ',' || c == '"' || c == '\r' || c == '\n')) {
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return value;
+    }
+}
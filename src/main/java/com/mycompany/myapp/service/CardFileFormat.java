@@ -0,0 +1,36 @@
+package com.mycompany.myapp.service;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * The file formats {@link com.mycompany.myapp.domain.Card}s are exported to and imported from.
+ * <p>
+ * {@code NDJSON} holds one card JSON document per line; {@code CSV} has a header line naming the
+ * {@code id,title,level,desc,lineId} columns.
+ */
+public enum CardFileFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String mediaType;
+
+    private final String extension;
+
+    CardFileFormat(String mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static Optional<CardFileFormat> fromName(String name) {
+        return Arrays.stream(values()).filter(format -> format.name().equalsIgnoreCase(name)).findFirst();
+    }
+}
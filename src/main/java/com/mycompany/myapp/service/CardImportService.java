@@ -0,0 +1,302 @@
+package com.mycompany.myapp.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.Card;
+import com.mycompany.myapp.domain.Line;
+import com.mycompany.myapp.repository.LineRepository;
+import com.mycompany.myapp.service.dto.BulkItemResultDTO;
+import com.mycompany.myapp.service.dto.BulkItemResultDTO.Status;
+import com.mycompany.myapp.service.dto.CardImportResultDTO;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service for importing {@link Card}s from a file in a streaming fashion.
+ * <p>
+ * The file is parsed one record at a time and the cards are created in chunks of {@code application.bulk.chunk-size}
+ * through {@link CardBulkService}, so the memory used does not depend on the size of the file. The ids found in the
+ * file are ignored: every record creates a new card. The lines the cards reference are checked once per distinct
+ * line id, with one query per chunk for the ids not seen yet.
+ */
+@Service
+public class CardImportService {
+
+    /**
+     * Maximum number of failed records reported in the import result; the others are only counted.
+     */
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    private static final long PROGRESS_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final Logger log = LoggerFactory.getLogger(CardImportService.class);
+
+    private final CardBulkService cardBulkService;
+
+    private final LineRepository lineRepository;
+
+    private final ObjectReader cardReader;
+
+    private final int chunkSize;
+
+    public CardImportService(
+        CardBulkService cardBulkService,
+        LineRepository lineRepository,
+        ObjectMapper objectMapper,
+        ApplicationProperties applicationProperties
+    ) {
+        this.cardBulkService = cardBulkService;
+        this.lineRepository = lineRepository;
+        this.cardReader = objectMapper.readerFor(Card.class);
+        this.chunkSize = Math.max(1, applicationProperties.getBulk().getChunkSize());
+    }
+
+    /**
+     * Create a card for each record of the input.
+     *
+     * @param in the content of the file, read but not closed.
+     * @param format the format of the file.
+     * @return the number of records read, created and failed, with the first failures.
+     * @throws IOException if the input cannot be read.
+     */
+    public CardImportResultDTO importCards(InputStream in, CardFileFormat format) throws IOException {
+        log.debug("Request to import Cards from {}", format);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        CardImport cardImport = new CardImport();
+        if (format == CardFileFormat.CSV) {
+            readCsv(reader, cardImport);
+        } else {
+            readNdjson(reader, cardImport);
+        }
+        cardImport.flush();
+        cardImport.result.getErrors().sort(Comparator.comparingInt(BulkItemResultDTO::getIndex));
+        log.info(
+            "Card import done: {} records, {} created, {} failed",
+            cardImport.result.getRecords(),
+            cardImport.result.getCreated(),
+            cardImport.result.getFailed()
+        );
+        return cardImport.result;
+    }
+
+    private void readNdjson(BufferedReader reader, CardImport cardImport) throws IOException {
+        String json;
+        while ((json = reader.readLine()) != null) {
+            if (json.isBlank()) {
+                continue;
+            }
+            Card card;
+            try {
+                card = cardReader.readValue(json);
+            } catch (JsonProcessingException e) {
+                cardImport.reject("Invalid JSON: " + e.getOriginalMessage());
+                continue;
+            }
+            Long lineId = card.getLine() == null ? null : card.getLine().getId();
+            cardImport.add(card.id(null).line(null), lineId);
+        }
+    }
+
+    private void readCsv(BufferedReader reader, CardImport cardImport) throws IOException {
+        List<String> header = readCsvRecord(reader);
+        if (header == null) {
+            return;
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        List<String> record;
+        while ((record = readCsvRecord(reader)) != null) {
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+            try {
+                Card card = new Card()
+                    .title(csvValue(record, columns, "title"))
+                    .level(csvNumber(record, columns, "level", Integer::valueOf))
+                    .desc(csvValue(record, columns, "desc"));
+                cardImport.add(card, csvNumber(record, columns, "lineid", Long::valueOf));
+            } catch (NumberFormatException e) {
+                cardImport.reject("Invalid number: " + e.getMessage());
+            }
+        }
+    }
+
+    private static String csvValue(List<String> record, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.size() || record.get(index).isEmpty()) {
+            return null;
+        }
+        return record.get(index);
+    }
+
+    private static <N> N csvNumber(List<String> record, Map<String, Integer> columns, String column, Function<String, N> parser) {
+        String value = csvValue(record, columns, column);
+        return value == null ? null : parser.apply(value.trim());
+    }
+
+    /**
+     * Read one RFC 4180 record, whose quoted fields may contain commas, quotes and line breaks.
+     *
+     * @return the fields of the record, or {@code null} at the end of the input.
+     */
+    private static List<String> readCsvRecord(BufferedReader reader) throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean empty = true;
+        int c;
+        while ((c = reader.read()) != -1) {
+            empty = false;
+            if (quoted) {
+                if (c != '"') {
+                    field.append((char) c);
+                    continue;
+                }
+                reader.mark(1);
+                if (reader.read() == '"') {
+                    field.append('"');
+                } else {
+                    quoted = false;
+                    reader.reset();
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+        }
+        if (empty) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * The state of one import: the pending chunk, the line ids already checked and the result so far.
+     */
+    private class CardImport {
+
+        private final CardImportResultDTO result = new CardImportResultDTO();
+
+        private final Map<Long, Boolean> knownLines = new HashMap<>();
+
+        private final List<Card> cards = new ArrayList<>(chunkSize);
+
+        private final List<Long> lineIds = new ArrayList<>(chunkSize);
+
+        private final List<Integer> indexes = new ArrayList<>(chunkSize);
+
+        private final long start = System.nanoTime();
+
+        private long lastProgress = start;
+
+        private int nextIndex;
+
+        void add(Card card, Long lineId) {
+            cards.add(card);
+            lineIds.add(lineId);
+            indexes.add(nextIndex++);
+            result.setRecords(result.getRecords() + 1);
+            if (cards.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        void reject(String message) {
+            result.setRecords(result.getRecords() + 1);
+            fail(BulkItemResultDTO.failure(nextIndex++, null, Status.INVALID, message));
+        }
+
+        void flush() {
+            if (cards.isEmpty()) {
+                return;
+            }
+            resolveLines();
+            List<Card> valid = new ArrayList<>(cards.size());
+            List<Integer> validIndexes = new ArrayList<>(cards.size());
+            for (int i = 0; i < cards.size(); i++) {
+                Long lineId = lineIds.get(i);
+                if (lineId != null && !knownLines.get(lineId)) {
+                    fail(BulkItemResultDTO.failure(indexes.get(i), null, Status.INVALID, "Line not found: " + lineId));
+                } else {
+                    valid.add(cards.get(i).line(lineId == null ? null : new Line().id(lineId)));
+                    validIndexes.add(indexes.get(i));
+                }
+            }
+            for (BulkItemResultDTO itemResult : cardBulkService.createAll(valid)) {
+                if (itemResult.getStatus() == Status.CREATED) {
+                    result.setCreated(result.getCreated() + 1);
+                } else {
+                    itemResult.setIndex(validIndexes.get(itemResult.getIndex()));
+                    fail(itemResult);
+                }
+            }
+            cards.clear();
+            lineIds.clear();
+            indexes.clear();
+            reportProgress();
+        }
+
+        private void resolveLines() {
+            Set<Long> unknown = lineIds
+                .stream()
+                .filter(Objects::nonNull)
+                .filter(id -> !knownLines.containsKey(id))
+                .collect(Collectors.toSet());
+            if (unknown.isEmpty()) {
+                return;
+            }
+            Set<Long> existing = new HashSet<>(lineRepository.findExistingIds(unknown));
+            unknown.forEach(id -> knownLines.put(id, existing.contains(id)));
+        }
+
+        private void fail(BulkItemResultDTO itemResult) {
+            result.setFailed(result.getFailed() + 1);
+            if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+                result.getErrors().add(itemResult);
+            }
+        }
+
+        private void reportProgress() {
+            long now = System.nanoTime();
+            if (now - lastProgress >= PROGRESS_INTERVAL_NANOS) {
+                lastProgress = now;
+                log.info(
+                    "Card import in progress: {} records, {} created, {} failed, {} records/s",
+                    result.getRecords(),
+                    result.getCreated(),
+                    result.getFailed(),
+                    Math.round(result.getRecords() / ((now - start) / 1e9))
+                );
+            }
+        }
+    }
+}
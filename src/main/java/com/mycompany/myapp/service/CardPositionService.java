@@ -0,0 +1,194 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.domain.Card;
+import com.mycompany.myapp.domain.Line;
+import com.mycompany.myapp.repository.CardRepository;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service assigning the {@link Card#getPosition() positions} of the cards in their line.
+ * <p>
+ * Positions are spaced by {@link #GAP}: a new card is placed after the last one, a moved card halfway between its new
+ * neighbours, so that only the moved card is written. Halving the space between two cards eventually leaves less than
+ * {@link #MIN_GAP}: the positions of the line are then spaced again in the background once the move commits, or at
+ * once if there is no room left at all.
+ */
+@Service
+@Transactional
+public class CardPositionService {
+
+    /**
+     * Space between the positions of consecutive cards, once placed at the end of a line or rebalanced.
+     */
+    public static final double GAP = 1024;
+
+    /**
+     * Space between two cards under which their line is rebalanced.
+     */
+    static final double MIN_GAP = 1e-6;
+
+    private final Logger log = LoggerFactory.getLogger(CardPositionService.class);
+
+    private final CardRepository cardRepository;
+
+    private final QueryResultCache queryResultCache;
+
+    private final BoardChangesService boardChangesService;
+
+    private final Executor executor;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Set<Long> pendingRebalances = ConcurrentHashMap.newKeySet();
+
+    public CardPositionService(
+        CardRepository cardRepository,
+        QueryResultCache queryResultCache,
+        BoardChangesService boardChangesService,
+        @Qualifier("backgroundExecutor") Executor executor,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.cardRepository = cardRepository;
+        this.queryResultCache = queryResultCache;
+        this.boardChangesService = boardChangesService;
+        this.executor = executor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Get the position following the last card of each line.
+     *
+     * @param lineIds the ids of the lines.
+     * @return the next position of each line.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Double> nextPositions(Collection<Long> lineIds) {
+        Map<Long, Double> nextPositions = new HashMap<>();
+        lineIds.forEach(lineId -> nextPositions.put(lineId, GAP));
+        if (!lineIds.isEmpty()) {
+            for (Object[] lastPosition : cardRepository.findLastPositions(lineIds)) {
+                nextPositions.put((Long) lastPosition[0], (Double) lastPosition[1] + GAP);
+            }
+        }
+        return nextPositions;
+    }
+
+    /**
+     * Place a card after another one of a line, or first.
+     *
+     * @param card the card to place, whose line is set.
+     * @param line the line of the card.
+     * @param after the card of the line to place it after, {@code null} to place it first.
+     * @throws InvalidCardMoveException if {@code after} is the card itself or not a card of the line.
+     */
+    public void place(Card card, Line line, Card after) {
+        if (after != null && (after.getId().equals(card.getId()) || !after.getLine().getId().equals(line.getId()))) {
+            throw new InvalidCardMoveException(after.getId(), line.getId());
+        }
+        card.setLine(line);
+        Double position = positionAfter(line.getId(), after, card.getId());
+        if (position == null) {
+            log.debug("No room left after {} in Line : {}, rebalancing it", after, line.getId());
+            rebalance(line.getId());
+            position = positionAfter(line.getId(), after, card.getId());
+        }
+        if (position == null) {
+            throw new IllegalStateException("No room left after " + after + " in Line " + line.getId() + " once rebalanced");
+        }
+        card.setPosition(position);
+    }
+
+    /**
+     * Space the positions of the cards of a line by {@link #GAP}, in their current order.
+     *
+     * @param lineId the id of the line.
+     */
+    public void rebalance(Long lineId) {
+        log.debug("Request to rebalance the positions of Line : {}", lineId);
+        List<Card> cards = cardRepository.findAllByLineIdInPositionOrder(lineId);
+        for (int i = 0; i < cards.size(); i++) {
+            cards.get(i).setPosition((i + 1) * GAP);
+        }
+        if (!cards.isEmpty()) {
+            queryResultCache.invalidate(QueryResultCache.CARDS_BY_CRITERIA_CACHE, lineId);
+            Line line = cards.get(0).getLine();
+            boardChangesService.recordLineUpdate(lineId, line.getBoard(), line.getBoard());
+        }
+    }
+
+    /**
+     * @return the position between the given card, or the start of the line, and the next card, {@code null} if the
+     * space between them is exhausted. A line left crowded is rebalanced once the transaction commits.
+     */
+    private Double positionAfter(Long lineId, Card after, Long cardId) {
+        Long excludedId = cardId != null ? cardId : Long.valueOf(-1);
+        if (after == null) {
+            Double first = cardRepository.findFirstPosition(lineId, excludedId);
+            return first == null ? GAP : first - GAP;
+        }
+        Double lower = after.getPosition();
+        if (lower == null) {
+            return null;
+        }
+        Double upper = cardRepository.findNextPosition(lineId, lower, excludedId);
+        if (upper == null) {
+            return lower + GAP;
+        }
+        double position = lower + (upper - lower) / 2;
+        if (position <= lower || position >= upper) {
+            return null;
+        }
+        if (upper - lower < 2 * MIN_GAP) {
+            rebalanceAfterCommit(lineId);
+        }
+        return position;
+    }
+
+    private void rebalanceAfterCommit(Long lineId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive() || !pendingRebalances.add(lineId)) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        pendingRebalances.remove(lineId);
+                        return;
+                    }
+                    try {
+                        executor.execute(() -> {
+                            try {
+                                transactionTemplate.executeWithoutResult(transactionStatus -> rebalance(lineId));
+                            } catch (RuntimeException e) {
+                                // a concurrent update of the line, the next move into the crowded space tries again
+                                log.warn("Could not rebalance the positions of Line {}: {}", lineId, e.getMessage());
+                            } finally {
+                                pendingRebalances.remove(lineId);
+                            }
+                        });
+                    } catch (RejectedExecutionException e) {
+                        log.warn("Could not schedule the rebalancing of Line {}: {}", lineId, e.getMessage());
+                        pendingRebalances.remove(lineId);
+                    }
+                }
+            }
+        );
+    }
+}
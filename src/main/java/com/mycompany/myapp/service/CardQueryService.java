@@ -5,13 +5,20 @@ import com.mycompany.myapp.domain.Card;
 import com.mycompany.myapp.repository.CardRepository;
 import com.mycompany.myapp.service.criteria.CardCriteria;
 import java.util.List;
+import java.util.OptionalLong;
+import java.util.stream.Stream;
 import javax.persistence.criteria.JoinType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import tech.jhipster.service.QueryService;
 
@@ -29,8 +36,11 @@ public class CardQueryService extends QueryService<Card> {
 
     private final CardRepository cardRepository;
 
-    public CardQueryService(CardRepository cardRepository) {
+    private final QueryResultCache queryResultCache;
+
+    public CardQueryService(CardRepository cardRepository, QueryResultCache queryResultCache) {
         this.cardRepository = cardRepository;
+        this.queryResultCache = queryResultCache;
     }
 
     /**
@@ -46,16 +56,96 @@ public class CardQueryService extends QueryService<Card> {
     }
 
     /**
-     * Return a {@link Page} of {@link Card} which matches the criteria from the database.
+     * Return a {@link Page} of {@link Card} which matches the criteria from the database, or from the
+     * {@link QueryResultCache} when it is enabled.
      * @param criteria The object which holds all the filters, which the entities should match.
      * @param page The page, which should be returned.
      * @return the matching entities.
      */
-    @Transactional(readOnly = true)
+    // a cache hit needs no connection, on a miss the repository runs the page and count queries in its own transaction
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Page<Card> findByCriteria(CardCriteria criteria, Pageable page) {
         log.debug("find by criteria : {}, page: {}", criteria, page);
+        return queryResultCache.getPage(
+            QueryResultCache.CARDS_BY_CRITERIA_CACHE,
+            lineScope(criteria),
+            criteria,
+            page,
+            () -> cardRepository.findAll(createSpecification(criteria), page)
+        );
+    }
+
+    /**
+     * Return a {@link Slice} of {@link Card} which matches the criteria from the database, without counting them.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Slice<Card> findSliceByCriteria(CardCriteria criteria, Pageable page) {
+        log.debug("find slice by criteria : {}, page: {}", criteria, page);
+        final Specification<Card> specification = createSpecification(criteria);
+        return cardRepository.findSlice(specification, page, Card.class);
+    }
+
+    /**
+     * Return a {@link Page} of {@link Card} which matches the criteria from the database, with an estimated total.
+     * Without filters, the total comes from the database planner statistics when available; otherwise it is counted.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<Card> findByCriteriaWithEstimatedCount(CardCriteria criteria, Pageable page) {
+        log.debug("find by criteria with estimated count : {}, page: {}", criteria, page);
+        final Specification<Card> specification = createSpecification(criteria);
+        Slice<Card> slice = cardRepository.findSlice(specification, page, Card.class);
+        return PageableExecutionUtils.getPage(slice.getContent(), page, () -> estimateCount(criteria, specification));
+    }
+
+    /**
+     * Return a {@link Slice} of {@link Card} which matches the criteria from the database, using keyset pagination.
+     * The entities are ordered by id and no count query is issued.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param after The id of the last entity of the previous slice, or {@code null} for the first slice.
+     * @param size The maximum number of entities to return.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Slice<Card> findByCriteriaAfter(CardCriteria criteria, Long after, int size) {
+        log.debug("find by criteria : {}, after: {}, size: {}", criteria, after, size);
         final Specification<Card> specification = createSpecification(criteria);
-        return cardRepository.findAll(specification, page);
+        return cardRepository.findAllAfter(specification, Card_.id, after, size);
+    }
+
+    /**
+     * Return a {@link Slice} of {@link Card} whose title or description match the words of the query, best matches first.
+     * @param query The words to search for.
+     * @param page The page, which should be returned; its sort is ignored.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Slice<Card> search(String query, Pageable page) {
+        log.debug("search : {}, page: {}", query, page);
+        if (query == null || query.isBlank()) {
+            return new SliceImpl<>(List.of(), page, false);
+        }
+        return cardRepository.search(query, page);
+    }
+
+    /**
+     * Return a {@link Stream} of {@link Card} which matches the criteria from the database, ordered by id.
+     * The line and board of each card are fetched in the same query. The stream must be consumed and closed
+     * inside the caller's transaction.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param fetchSize The number of rows fetched per database round trip.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Stream<Card> streamByCriteria(CardCriteria criteria, int fetchSize) {
+        log.debug("stream by criteria : {}", criteria);
+        final Specification<Card> specification = createSpecification(criteria).and(fetchLineAndBoard());
+        return cardRepository.streamAll(specification, Sort.by(Card_.ID), Card.class, fetchSize);
     }
 
     /**
@@ -70,6 +160,30 @@ public class CardQueryService extends QueryService<Card> {
         return cardRepository.count(specification);
     }
 
+    private long estimateCount(CardCriteria criteria, Specification<Card> specification) {
+        if (criteria == null || new CardCriteria().equals(criteria)) {
+            OptionalLong estimate = cardRepository.estimateCount(Card.class);
+            if (estimate.isPresent()) {
+                return estimate.getAsLong();
+            }
+        }
+        return cardRepository.count(specification);
+    }
+
+    private static Specification<Card> fetchLineAndBoard() {
+        return (root, query, builder) -> {
+            root.fetch(Card_.line, JoinType.LEFT).fetch(Line_.board, JoinType.LEFT);
+            return null;
+        };
+    }
+
+    /**
+     * The id of the line the criteria restrict the query to, {@code null} if none.
+     */
+    private static Long lineScope(CardCriteria criteria) {
+        return criteria != null && criteria.getLineId() != null ? criteria.getLineId().getEquals() : null;
+    }
+
     /**
      * Function to convert {@link CardCriteria} to a {@link Specification}
      * @param criteria The object which holds all the filters, which the entities should match.
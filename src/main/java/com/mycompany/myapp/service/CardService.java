@@ -1,12 +1,18 @@
 package com.mycompany.myapp.service;
 
 import com.mycompany.myapp.domain.Card;
+import com.mycompany.myapp.domain.Line;
 import com.mycompany.myapp.repository.CardRepository;
+import com.mycompany.myapp.repository.LineRepository;
+import com.mycompany.myapp.service.dto.CardMoveDTO;
 import java.util.Optional;
+import java.util.Set;
+import javax.persistence.EntityNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,29 +27,74 @@ public class CardService {
 
     private final CardRepository cardRepository;
 
-    public CardService(CardRepository cardRepository) {
+    private final LineRepository lineRepository;
+
+    private final QueryResultCache queryResultCache;
+
+    private final BoardChangesService boardChangesService;
+
+    private final CardPositionService cardPositionService;
+
+    public CardService(
+        CardRepository cardRepository,
+        LineRepository lineRepository,
+        QueryResultCache queryResultCache,
+        BoardChangesService boardChangesService,
+        CardPositionService cardPositionService
+    ) {
         this.cardRepository = cardRepository;
+        this.lineRepository = lineRepository;
+        this.queryResultCache = queryResultCache;
+        this.boardChangesService = boardChangesService;
+        this.cardPositionService = cardPositionService;
     }
 
     /**
-     * Save a card.
+     * Save a card, placed after the last card of its line unless it has a position.
      *
      * @param card the entity to save.
      * @return the persisted entity.
      */
     public Card save(Card card) {
         log.debug("Request to save Card : {}", card);
-        return cardRepository.save(card);
+        resolveLine(card);
+        if (card.getPosition() == null && card.getLine() != null && card.getLine().getId() != null) {
+            Long lineId = card.getLine().getId();
+            card.setPosition(cardPositionService.nextPositions(Set.of(lineId)).get(lineId));
+        }
+        invalidateQueries(card);
+        Card result = cardRepository.save(card);
+        boardChangesService.recordCardCreation(result);
+        return result;
     }
 
     /**
      * Update a card.
+     * <p>
+     * A card without version overwrites the current one; otherwise it must be the current version. A card without
+     * position keeps its current one.
      *
      * @param card the entity to save.
      * @return the persisted entity.
+     * @throws ObjectOptimisticLockingFailureException if the card was modified since the given version.
      */
     public Card update(Card card) {
         log.debug("Request to update Card : {}", card);
+        resolveLine(card);
+        cardRepository
+            .findById(card.getId())
+            .ifPresent(existingCard -> {
+                if (card.getVersion() == null) {
+                    card.setVersion(existingCard.getVersion());
+                }
+                if (card.getPosition() == null) {
+                    card.setPosition(existingCard.getPosition());
+                }
+                // the card may move to another line, the pages of both are invalidated
+                invalidateQueries(existingCard);
+                boardChangesService.recordCardUpdate(card.getId(), existingCard.getLine(), card.getLine());
+            });
+        invalidateQueries(card);
         return cardRepository.save(card);
     }
 
@@ -52,6 +103,7 @@ public class CardService {
      *
      * @param card the entity to update partially.
      * @return the persisted entity.
+     * @throws ObjectOptimisticLockingFailureException if a version is given and the card was modified since.
      */
     public Optional<Card> partialUpdate(Card card) {
         log.debug("Request to partially update Card : {}", card);
@@ -59,6 +111,9 @@ public class CardService {
         return cardRepository
             .findById(card.getId())
             .map(existingCard -> {
+                if (card.getVersion() != null && !card.getVersion().equals(existingCard.getVersion())) {
+                    throw new ObjectOptimisticLockingFailureException(Card.class, card.getId());
+                }
                 if (card.getTitle() != null) {
                     existingCard.setTitle(card.getTitle());
                 }
@@ -68,12 +123,52 @@ public class CardService {
                 if (card.getDesc() != null) {
                     existingCard.setDesc(card.getDesc());
                 }
+                invalidateQueries(existingCard);
+                boardChangesService.recordCardUpdate(existingCard.getId(), existingCard.getLine(), existingCard.getLine());
 
                 return existingCard;
             })
             .map(cardRepository::save);
     }
 
+    /**
+     * Move a card to a line, after one of its cards or first. Only the moved card is written, unless the line has to
+     * be rebalanced.
+     *
+     * @param id the id of the card to move.
+     * @param move the line and the card to move it after, which must be one of the cards of that line.
+     * @return the moved entity.
+     * @throws ObjectOptimisticLockingFailureException if a version is given and the card was modified since.
+     * @throws InvalidCardMoveException if the card to move after is not another card of the line.
+     */
+    public Optional<Card> move(Long id, CardMoveDTO move) {
+        log.debug("Request to move Card : {}, {}", id, move);
+
+        return cardRepository
+            .findById(id)
+            .map(card -> {
+                if (move.getVersion() != null && !move.getVersion().equals(card.getVersion())) {
+                    throw new ObjectOptimisticLockingFailureException(Card.class, id);
+                }
+                Line from = card.getLine();
+                // loaded rather than referenced, the moved card is returned with its line
+                Line to = lineRepository
+                    .findById(move.getLineId())
+                    .orElseThrow(() -> new EntityNotFoundException("Line not found: " + move.getLineId()));
+                Card after = move.getAfterId() == null
+                    ? null
+                    : cardRepository
+                        .findById(move.getAfterId())
+                        .orElseThrow(() -> new InvalidCardMoveException(move.getAfterId(), move.getLineId()));
+                invalidateQueries(card);
+                cardPositionService.place(card, to, after);
+                invalidateQueries(card);
+                boardChangesService.recordCardUpdate(id, from, to);
+
+                return card;
+            });
+    }
+
     /**
      * Get all the cards.
      *
@@ -105,6 +200,28 @@ public class CardService {
      */
     public void delete(Long id) {
         log.debug("Request to delete Card : {}", id);
+        cardRepository
+            .findById(id)
+            .ifPresent(card -> {
+                invalidateQueries(card);
+                boardChangesService.recordCardDeletion(id, card.getLine());
+            });
         cardRepository.deleteById(id);
     }
+
+    /**
+     * A line given by its id only, without version, would be taken by Hibernate for a new line: it is replaced by the
+     * persistent one.
+     */
+    private void resolveLine(Card card) {
+        Line line = card.getLine();
+        if (line != null && line.getId() != null && line.getVersion() == null) {
+            lineRepository.findById(line.getId()).ifPresent(card::setLine);
+        }
+    }
+
+    private void invalidateQueries(Card card) {
+        Line line = card.getLine();
+        queryResultCache.invalidate(QueryResultCache.CARDS_BY_CRITERIA_CACHE, line != null ? line.getId() : null);
+    }
 }
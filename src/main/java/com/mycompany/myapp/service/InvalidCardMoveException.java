@@ -0,0 +1,10 @@
+package com.mycompany.myapp.service;
+
+public class InvalidCardMoveException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public InvalidCardMoveException(Long afterId, Long lineId) {
+        super("The card to move after must be another card of the line: card " + afterId + ", line " + lineId);
+    }
+}
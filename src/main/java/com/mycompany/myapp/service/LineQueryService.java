@@ -5,13 +5,17 @@ import com.mycompany.myapp.domain.Line;
 import com.mycompany.myapp.repository.LineRepository;
 import com.mycompany.myapp.service.criteria.LineCriteria;
 import java.util.List;
+import java.util.OptionalLong;
 import javax.persistence.criteria.JoinType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import tech.jhipster.service.QueryService;
 
@@ -29,8 +33,11 @@ public class LineQueryService extends QueryService<Line> {
 
     private final LineRepository lineRepository;
 
-    public LineQueryService(LineRepository lineRepository) {
+    private final QueryResultCache queryResultCache;
+
+    public LineQueryService(LineRepository lineRepository, QueryResultCache queryResultCache) {
         this.lineRepository = lineRepository;
+        this.queryResultCache = queryResultCache;
     }
 
     /**
@@ -46,16 +53,66 @@ public class LineQueryService extends QueryService<Line> {
     }
 
     /**
-     * Return a {@link Page} of {@link Line} which matches the criteria from the database.
+     * Return a {@link Page} of {@link Line} which matches the criteria from the database, or from the
+     * {@link QueryResultCache} when it is enabled.
      * @param criteria The object which holds all the filters, which the entities should match.
      * @param page The page, which should be returned.
      * @return the matching entities.
      */
-    @Transactional(readOnly = true)
+    // a cache hit needs no connection, on a miss the repository runs the page and count queries in its own transaction
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Page<Line> findByCriteria(LineCriteria criteria, Pageable page) {
         log.debug("find by criteria : {}, page: {}", criteria, page);
+        return queryResultCache.getPage(
+            QueryResultCache.LINES_BY_CRITERIA_CACHE,
+            boardScope(criteria),
+            criteria,
+            page,
+            () -> lineRepository.findAll(createSpecification(criteria), page)
+        );
+    }
+
+    /**
+     * Return a {@link Slice} of {@link Line} which matches the criteria from the database, without counting them.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Slice<Line> findSliceByCriteria(LineCriteria criteria, Pageable page) {
+        log.debug("find slice by criteria : {}, page: {}", criteria, page);
+        final Specification<Line> specification = createSpecification(criteria);
+        return lineRepository.findSlice(specification, page, Line.class);
+    }
+
+    /**
+     * Return a {@link Page} of {@link Line} which matches the criteria from the database, with an estimated total.
+     * Without filters, the total comes from the database planner statistics when available; otherwise it is counted.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<Line> findByCriteriaWithEstimatedCount(LineCriteria criteria, Pageable page) {
+        log.debug("find by criteria with estimated count : {}, page: {}", criteria, page);
+        final Specification<Line> specification = createSpecification(criteria);
+        Slice<Line> slice = lineRepository.findSlice(specification, page, Line.class);
+        return PageableExecutionUtils.getPage(slice.getContent(), page, () -> estimateCount(criteria, specification));
+    }
+
+    /**
+     * Return a {@link Slice} of {@link Line} which matches the criteria from the database, using keyset pagination.
+     * The entities are ordered by id and no count query is issued.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param after The id of the last entity of the previous slice, or {@code null} for the first slice.
+     * @param size The maximum number of entities to return.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Slice<Line> findByCriteriaAfter(LineCriteria criteria, Long after, int size) {
+        log.debug("find by criteria : {}, after: {}, size: {}", criteria, after, size);
         final Specification<Line> specification = createSpecification(criteria);
-        return lineRepository.findAll(specification, page);
+        return lineRepository.findAllAfter(specification, Line_.id, after, size);
     }
 
     /**
@@ -70,6 +127,23 @@ public class LineQueryService extends QueryService<Line> {
         return lineRepository.count(specification);
     }
 
+    private long estimateCount(LineCriteria criteria, Specification<Line> specification) {
+        if (criteria == null || new LineCriteria().equals(criteria)) {
+            OptionalLong estimate = lineRepository.estimateCount(Line.class);
+            if (estimate.isPresent()) {
+                return estimate.getAsLong();
+            }
+        }
+        return lineRepository.count(specification);
+    }
+
+    /**
+     * The id of the board the criteria restrict the query to, {@code null} if none.
+     */
+    private static Long boardScope(LineCriteria criteria) {
+        return criteria != null && criteria.getBoardId() != null ? criteria.getBoardId().getEquals() : null;
+    }
+
     /**
      * Function to convert {@link LineCriteria} to a {@link Specification}
      * @param criteria The object which holds all the filters, which the entities should match.
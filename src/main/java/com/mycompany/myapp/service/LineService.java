@@ -1,12 +1,15 @@
 package com.mycompany.myapp.service;
 
+import com.mycompany.myapp.domain.Board;
 import com.mycompany.myapp.domain.Line;
+import com.mycompany.myapp.repository.BoardRepository;
 import com.mycompany.myapp.repository.LineRepository;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,8 +24,22 @@ public class LineService {
 
     private final LineRepository lineRepository;
 
-    public LineService(LineRepository lineRepository) {
+    private final BoardRepository boardRepository;
+
+    private final QueryResultCache queryResultCache;
+
+    private final BoardChangesService boardChangesService;
+
+    public LineService(
+        LineRepository lineRepository,
+        BoardRepository boardRepository,
+        QueryResultCache queryResultCache,
+        BoardChangesService boardChangesService
+    ) {
         this.lineRepository = lineRepository;
+        this.boardRepository = boardRepository;
+        this.queryResultCache = queryResultCache;
+        this.boardChangesService = boardChangesService;
     }
 
     /**
@@ -33,17 +50,36 @@ public class LineService {
      */
     public Line save(Line line) {
         log.debug("Request to save Line : {}", line);
-        return lineRepository.save(line);
+        resolveBoard(line);
+        invalidateQueries(line);
+        Line result = lineRepository.save(line);
+        boardChangesService.recordLineCreation(result);
+        return result;
     }
 
     /**
      * Update a line.
+     * <p>
+     * A line without version overwrites the current one; otherwise it must be the current version.
      *
      * @param line the entity to save.
      * @return the persisted entity.
+     * @throws ObjectOptimisticLockingFailureException if the line was modified since the given version.
      */
     public Line update(Line line) {
         log.debug("Request to update Line : {}", line);
+        resolveBoard(line);
+        lineRepository
+            .findById(line.getId())
+            .ifPresent(existingLine -> {
+                if (line.getVersion() == null) {
+                    line.setVersion(existingLine.getVersion());
+                }
+                // the line may move to another board, the pages of both are invalidated
+                invalidateQueries(existingLine);
+                boardChangesService.recordLineUpdate(line.getId(), existingLine.getBoard(), line.getBoard());
+            });
+        invalidateQueries(line);
         return lineRepository.save(line);
     }
 
@@ -52,6 +88,7 @@ public class LineService {
      *
      * @param line the entity to update partially.
      * @return the persisted entity.
+     * @throws ObjectOptimisticLockingFailureException if a version is given and the line was modified since.
      */
     public Optional<Line> partialUpdate(Line line) {
         log.debug("Request to partially update Line : {}", line);
@@ -59,9 +96,14 @@ public class LineService {
         return lineRepository
             .findById(line.getId())
             .map(existingLine -> {
+                if (line.getVersion() != null && !line.getVersion().equals(existingLine.getVersion())) {
+                    throw new ObjectOptimisticLockingFailureException(Line.class, line.getId());
+                }
                 if (line.getTitle() != null) {
                     existingLine.setTitle(line.getTitle());
                 }
+                invalidateQueries(existingLine);
+                boardChangesService.recordLineUpdate(existingLine.getId(), existingLine.getBoard(), existingLine.getBoard());
 
                 return existingLine;
             })
@@ -99,6 +141,32 @@ public class LineService {
      */
     public void delete(Long id) {
         log.debug("Request to delete Line : {}", id);
+        lineRepository
+            .findById(id)
+            .ifPresent(line -> {
+                invalidateQueries(line);
+                boardChangesService.recordLineDeletion(id, line.getBoard());
+            });
         lineRepository.deleteById(id);
     }
+
+    /**
+     * A board given by its id only, without version, would be taken by Hibernate for a new board: it is replaced by
+     * the persistent one.
+     */
+    private void resolveBoard(Line line) {
+        Board board = line.getBoard();
+        if (board != null && board.getId() != null && board.getVersion() == null) {
+            boardRepository.findById(board.getId()).ifPresent(line::setBoard);
+        }
+    }
+
+    private void invalidateQueries(Line line) {
+        Board board = line.getBoard();
+        queryResultCache.invalidate(QueryResultCache.LINES_BY_CRITERIA_CACHE, board != null ? board.getId() : null);
+        if (line.getId() != null) {
+            // the cards are returned with their line
+            queryResultCache.invalidate(QueryResultCache.CARDS_BY_CRITERIA_CACHE, line.getId());
+        }
+    }
 }
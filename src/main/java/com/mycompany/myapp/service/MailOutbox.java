@@ -0,0 +1,241 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.annotation.PreDestroy;
+import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+import tech.jhipster.config.JHipsterProperties;
+
+/**
+ * Queue of the emails sent by {@link MailService}, delivered every {@code application.mail.flush-interval} by the
+ * {@code mailExecutor} of {@code AsyncConfiguration}, so that a slow SMTP server delays
+ * neither the requests nor the other scheduled tasks.
+ * <p>
+ * The queued emails are sent in batches of {@code application.mail.batch-size}, each over a single SMTP connection.
+ * The emails of a batch which could not be sent are retried by a later delivery, after {@code application.mail.retry-backoff}
+ * doubled by each attempt, and dropped after {@code application.mail.max-attempts}. Like the queue, which is bounded
+ * by {@code application.mail.queue-capacity}, pending emails are local to this instance and lost if it stops abruptly.
+ */
+@Component
+public class MailOutbox {
+
+    private final Logger log = LoggerFactory.getLogger(MailOutbox.class);
+
+    private final JavaMailSender javaMailSender;
+
+    private final JHipsterProperties jHipsterProperties;
+
+    private final BlockingQueue<PendingMail> queue;
+
+    /**
+     * The emails waiting for a retry, by time of their next attempt; only read and written under {@link #deliveryLock}.
+     */
+    private final Queue<PendingMail> retries = new PriorityQueue<>((a, b) -> Long.compare(a.nextAttempt, b.nextAttempt));
+
+    /**
+     * The size of {@link #retries}, read without taking the {@link #deliveryLock}, which is held while sending.
+     */
+    private final AtomicInteger retrying = new AtomicInteger();
+
+    private final ReentrantLock deliveryLock = new ReentrantLock();
+
+    private final int batchSize;
+
+    private final int maxAttempts;
+
+    private final long retryBackoff;
+
+    private final Counter sent;
+
+    private final Counter failed;
+
+    private final Counter dropped;
+
+    public MailOutbox(
+        JavaMailSender javaMailSender,
+        JHipsterProperties jHipsterProperties,
+        ApplicationProperties applicationProperties,
+        MeterRegistry meterRegistry
+    ) {
+        this.javaMailSender = javaMailSender;
+        this.jHipsterProperties = jHipsterProperties;
+        ApplicationProperties.Mail mail = applicationProperties.getMail();
+        this.queue = new LinkedBlockingQueue<>(mail.getQueueCapacity());
+        this.batchSize = Math.max(1, mail.getBatchSize());
+        this.maxAttempts = Math.max(1, mail.getMaxAttempts());
+        this.retryBackoff = mail.getRetryBackoff().toMillis();
+        Gauge.builder("mail.outbox.pending", this, MailOutbox::pending).description("Emails waiting to be sent").register(meterRegistry);
+        this.sent = Counter.builder("mail.outbox.sent").description("Emails sent").register(meterRegistry);
+        this.failed = Counter
+            .builder("mail.outbox.failed")
+            .description("Emails dropped after their last failed attempt")
+            .register(meterRegistry);
+        this.dropped = Counter.builder("mail.outbox.dropped").description("Emails dropped as the queue was full").register(meterRegistry);
+    }
+
+    /**
+     * Queue an email, sent by the next delivery.
+     *
+     * @param to the address of the recipient.
+     * @param subject the subject.
+     * @param content the content.
+     * @param isMultipart whether the email is a multipart one.
+     * @param isHtml whether the content is HTML.
+     * @return whether the email is queued, or dropped as the queue is full.
+     */
+    public boolean enqueue(String to, String subject, String content, boolean isMultipart, boolean isHtml) {
+        if (!queue.offer(new PendingMail(to, subject, content, isMultipart, isHtml))) {
+            log.warn("Email to '{}' dropped, {} emails are already waiting to be sent", to, queue.size());
+            dropped.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Send the queued emails, and the failed ones due for a retry.
+     */
+    public void flush() {
+        deliver(false);
+    }
+
+    /**
+     * Send the pending emails, retries included, before this instance stops.
+     */
+    @PreDestroy
+    public void close() {
+        deliver(true);
+    }
+
+    /**
+     * @return the number of emails waiting to be sent, retries included.
+     */
+    public int pending() {
+        return queue.size() + retrying.get();
+    }
+
+    private void deliver(boolean all) {
+        deliveryLock.lock();
+        try {
+            long now = System.currentTimeMillis();
+            // the emails failing now wait for a later delivery
+            List<PendingMail> due = new ArrayList<>();
+            while (!retries.isEmpty() && (all || retries.peek().nextAttempt <= now)) {
+                due.add(retries.poll());
+                retrying.decrementAndGet();
+            }
+            queue.drainTo(due);
+            for (int offset = 0; offset < due.size(); offset += batchSize) {
+                send(due.subList(offset, Math.min(offset + batchSize, due.size())), now);
+            }
+        } finally {
+            deliveryLock.unlock();
+        }
+    }
+
+    private void send(List<PendingMail> batch, long now) {
+        Map<MimeMessage, PendingMail> messages = new LinkedHashMap<>();
+        for (PendingMail mail : batch) {
+            try {
+                messages.put(mail.toMimeMessage(), mail);
+            } catch (MessagingException e) {
+                log.warn("Email could not be sent to user '{}'", mail.to, e);
+                failed.increment();
+            }
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+        try {
+            // a single connection for the whole batch
+            javaMailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+            log.debug("Sent {} emails", messages.size());
+            sent.increment(messages.size());
+        } catch (MailSendException e) {
+            Map<Object, Exception> failedMessages = e.getFailedMessages();
+            if (failedMessages.isEmpty()) {
+                messages.values().forEach(mail -> retryOrDrop(mail, e, now));
+                return;
+            }
+            sent.increment(messages.size() - (double) failedMessages.size());
+            failedMessages.forEach((message, exception) -> {
+                PendingMail mail = messages.get(message);
+                if (mail != null) {
+                    retryOrDrop(mail, exception, now);
+                }
+            });
+        } catch (MailException e) {
+            messages.values().forEach(mail -> retryOrDrop(mail, e, now));
+        }
+    }
+
+    private void retryOrDrop(PendingMail mail, Exception e, long now) {
+        mail.attempts++;
+        if (mail.attempts >= maxAttempts) {
+            log.warn("Email could not be sent to user '{}' after {} attempts", mail.to, mail.attempts, e);
+            failed.increment();
+            return;
+        }
+        log.debug("Email could not be sent to user '{}', attempt {}: {}", mail.to, mail.attempts, e.getMessage());
+        mail.nextAttempt = now + (retryBackoff << Math.min(mail.attempts - 1, 20));
+        retries.add(mail);
+        retrying.incrementAndGet();
+    }
+
+    private final class PendingMail {
+
+        private final String to;
+
+        private final String subject;
+
+        private final String content;
+
+        private final boolean isMultipart;
+
+        private final boolean isHtml;
+
+        private int attempts;
+
+        private long nextAttempt;
+
+        PendingMail(String to, String subject, String content, boolean isMultipart, boolean isHtml) {
+            this.to = to;
+            this.subject = subject;
+            this.content = content;
+            this.isMultipart = isMultipart;
+            this.isHtml = isHtml;
+        }
+
+        MimeMessage toMimeMessage() throws MessagingException {
+            // Prepare message using a Spring helper
+            MimeMessage mimeMessage = javaMailSender.createMimeMessage();
+            MimeMessageHelper message = new MimeMessageHelper(mimeMessage, isMultipart, StandardCharsets.UTF_8.name());
+            message.setTo(to);
+            message.setFrom(jHipsterProperties.getMail().getFrom());
+            message.setSubject(subject);
+            message.setText(content, isHtml);
+            return mimeMessage;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tech.jhipster.service.Criteria;
+
+/**
+ * Cache of the pages found by criteria by {@link CardQueryService} and {@link LineQueryService}, enabled by
+ * {@code application.query-cache.enabled}.
+ * <p>
+ * A query is scoped to the line, or the board, its criteria restrict it to with {@code lineId.equals}, or
+ * {@code boardId.equals}; other queries are unscoped. Each scope has a generation which is part of the cache key and
+ * which writes increment: a write to the cards of a line makes the cached pages of that line, and the unscoped ones,
+ * unreachable and leaves those of the other lines cached. The generations are incremented again once the writing
+ * transaction completes, so that a page read by a concurrent request before the commit is not served after it.
+ * Unreachable pages are left to expire with their cache region.
+ * <p>
+ * Like the caches, the generations are local to this instance.
+ */
+@Component
+public class QueryResultCache {
+
+    public static final String CARDS_BY_CRITERIA_CACHE = "cardsByCriteria";
+
+    public static final String LINES_BY_CRITERIA_CACHE = "linesByCriteria";
+
+    /**
+     * Number of generations per cache; scopes sharing one are invalidated together, which is only less efficient.
+     */
+    static final int SCOPE_GENERATIONS = 1024;
+
+    private final boolean enabled;
+
+    private final CacheManager cacheManager;
+
+    private final Map<String, Generations> generations = new ConcurrentHashMap<>();
+
+    public QueryResultCache(ApplicationProperties applicationProperties, CacheManager cacheManager) {
+        this.enabled = applicationProperties.getQueryCache().isEnabled();
+        this.cacheManager = cacheManager;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Get a page from the cache, or run the query and cache its result.
+     *
+     * @param cacheName the name of the cache.
+     * @param scope the id of the line, or board, the criteria restrict the query to, {@code null} if none.
+     * @param criteria the criteria of the query.
+     * @param page the page requested.
+     * @param query the query, run on a cache miss.
+     * @param <T> the type of the entities.
+     * @return the page.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Page<T> getPage(String cacheName, Long scope, Criteria criteria, Pageable page, Supplier<Page<T>> query) {
+        if (!enabled) {
+            return query.get();
+        }
+        Generations cacheGenerations = generations(cacheName);
+        // the generations are read before the query runs, a write committed meanwhile makes its result unreachable
+        List<Object> key = Arrays.asList(
+            scope,
+            cacheGenerations.all.get(),
+            cacheGenerations.get(scope),
+            criteria != null ? criteria.copy() : null,
+            page
+        );
+        Cache cache = cacheManager.getCache(cacheName);
+        Cache.ValueWrapper cached = cache.get(key);
+        if (cached != null) {
+            return (Page<T>) cached.get();
+        }
+        Page<T> result = query.get();
+        cache.put(key, result);
+        return result;
+    }
+
+    /**
+     * Invalidate the cached pages of a scope and the unscoped ones, now and once the current transaction completes.
+     *
+     * @param cacheName the name of the cache.
+     * @param scope the id of the line, or board, written, {@code null} if none.
+     */
+    public void invalidate(String cacheName, Long scope) {
+        if (enabled) {
+            Generations cacheGenerations = generations(cacheName);
+            runNowAndAfterTransaction(() -> cacheGenerations.increment(scope));
+        }
+    }
+
+    /**
+     * Invalidate all the cached pages of a cache, now and once the current transaction completes.
+     *
+     * @param cacheName the name of the cache.
+     */
+    public void invalidateAll(String cacheName) {
+        if (enabled) {
+            Generations cacheGenerations = generations(cacheName);
+            runNowAndAfterTransaction(cacheGenerations::incrementAll);
+        }
+    }
+
+    private Generations generations(String cacheName) {
+        return generations.computeIfAbsent(cacheName, name -> new Generations());
+    }
+
+    private void runNowAndAfterTransaction(Runnable invalidation) {
+        invalidation.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        invalidation.run();
+                    }
+                }
+            );
+        }
+    }
+
+    private static final class Generations {
+
+        private final AtomicLong all = new AtomicLong();
+
+        private final AtomicLong unscoped = new AtomicLong();
+
+        private final AtomicLongArray scoped = new AtomicLongArray(SCOPE_GENERATIONS);
+
+        long get(Long scope) {
+            return scope == null ? unscoped.get() : scoped.get(index(scope));
+        }
+
+        void increment(Long scope) {
+            if (scope != null) {
+                scoped.incrementAndGet(index(scope));
+            }
+            unscoped.incrementAndGet();
+        }
+
+        void incrementAll() {
+            all.incrementAndGet();
+        }
+
+        private static int index(Long scope) {
+            return Math.floorMod(Long.hashCode(scope), SCOPE_GENERATIONS);
+        }
+    }
+}
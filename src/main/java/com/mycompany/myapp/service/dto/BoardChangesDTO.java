@@ -0,0 +1,94 @@
+package com.mycompany.myapp.service.dto;
+
+import com.mycompany.myapp.domain.Board;
+import com.mycompany.myapp.domain.Card;
+import com.mycompany.myapp.domain.Line;
+import com.mycompany.myapp.domain.Tombstone;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A DTO representing what changed on a board since a given time.
+ * <p>
+ * {@code board} is only set when the board itself changed. An item may be reported again by the next request: a
+ * client applies the changes as upserts and deletions by id, then asks for the changes since {@code until}.
+ */
+public class BoardChangesDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Instant since;
+
+    private Instant until;
+
+    private Board board;
+
+    private List<Line> lines = new ArrayList<>();
+
+    private List<Card> cards = new ArrayList<>();
+
+    private List<Tombstone> deleted = new ArrayList<>();
+
+    public Instant getSince() {
+        return since;
+    }
+
+    public void setSince(Instant since) {
+        this.since = since;
+    }
+
+    public Instant getUntil() {
+        return until;
+    }
+
+    public void setUntil(Instant until) {
+        this.until = until;
+    }
+
+    public Board getBoard() {
+        return board;
+    }
+
+    public void setBoard(Board board) {
+        this.board = board;
+    }
+
+    public List<Line> getLines() {
+        return lines;
+    }
+
+    public void setLines(List<Line> lines) {
+        this.lines = lines;
+    }
+
+    public List<Card> getCards() {
+        return cards;
+    }
+
+    public void setCards(List<Card> cards) {
+        this.cards = cards;
+    }
+
+    public List<Tombstone> getDeleted() {
+        return deleted;
+    }
+
+    public void setDeleted(List<Tombstone> deleted) {
+        this.deleted = deleted;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "BoardChangesDTO{" +
+            "since=" + getSince() +
+            ", until=" + getUntil() +
+            ", board=" + getBoard() +
+            ", lines=" + getLines().size() +
+            ", cards=" + getCards().size() +
+            ", deleted=" + getDeleted().size() +
+            "}";
+    }
+}
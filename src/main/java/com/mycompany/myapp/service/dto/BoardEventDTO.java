@@ -0,0 +1,65 @@
+package com.mycompany.myapp.service.dto;
+
+import com.mycompany.myapp.domain.enumeration.BoardItemType;
+import java.io.Serializable;
+
+/**
+ * A DTO representing a change of a board, one of its lines or one of its cards, pushed to the clients watching the
+ * board once committed.
+ * <p>
+ * Events only tell what changed: clients read the changes themselves with {@code GET /api/boards/:id/changes}.
+ * A card or line moved between boards is published to both.
+ */
+public class BoardEventDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        MOVED,
+        DELETED,
+    }
+
+    private final Type type;
+
+    private final BoardItemType entityType;
+
+    private final Long id;
+
+    private final Long boardId;
+
+    public BoardEventDTO(Type type, BoardItemType entityType, Long id, Long boardId) {
+        this.type = type;
+        this.entityType = entityType;
+        this.id = id;
+        this.boardId = boardId;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public BoardItemType getEntityType() {
+        return entityType;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getBoardId() {
+        return boardId;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "BoardEventDTO{" +
+            "type=" + getType() +
+            ", entityType=" + getEntityType() +
+            ", id=" + getId() +
+            ", boardId=" + getBoardId() +
+            "}";
+    }
+}
@@ -0,0 +1,67 @@
+package com.mycompany.myapp.service.dto;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A DTO representing the outcome of a card import.
+ * <p>
+ * Only the failed records are reported individually, up to a limit; {@code index} is the position of the record
+ * in the imported file, starting at {@code 0} for the first card.
+ */
+public class CardImportResultDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private long records;
+
+    private long created;
+
+    private long failed;
+
+    private List<BulkItemResultDTO> errors = new ArrayList<>();
+
+    public long getRecords() {
+        return records;
+    }
+
+    public void setRecords(long records) {
+        this.records = records;
+    }
+
+    public long getCreated() {
+        return created;
+    }
+
+    public void setCreated(long created) {
+        this.created = created;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public void setFailed(long failed) {
+        this.failed = failed;
+    }
+
+    public List<BulkItemResultDTO> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<BulkItemResultDTO> errors) {
+        this.errors = errors;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "CardImportResultDTO{" +
+            "records=" + records +
+            ", created=" + created +
+            ", failed=" + failed +
+            ", errors=" + errors.size() +
+            "}";
+    }
+}
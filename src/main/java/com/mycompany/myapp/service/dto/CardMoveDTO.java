@@ -0,0 +1,60 @@
+package com.mycompany.myapp.service.dto;
+
+import java.io.Serializable;
+
+/**
+ * A DTO representing the move of a card to a place of a line.
+ */
+public class CardMoveDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long lineId;
+
+    private Long afterId;
+
+    private Long version;
+
+    /**
+     * @return the id of the line to move the card to.
+     */
+    public Long getLineId() {
+        return lineId;
+    }
+
+    public void setLineId(Long lineId) {
+        this.lineId = lineId;
+    }
+
+    /**
+     * @return the id of the card of the line to move the card after, {@code null} to move it first.
+     */
+    public Long getAfterId() {
+        return afterId;
+    }
+
+    public void setAfterId(Long afterId) {
+        this.afterId = afterId;
+    }
+
+    /**
+     * @return the version of the card the move was made from, {@code null} to move the current version.
+     */
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "CardMoveDTO{" +
+            "lineId=" + getLineId() +
+            ", afterId=" + getAfterId() +
+            ", version=" + getVersion() +
+            "}";
+    }
+}
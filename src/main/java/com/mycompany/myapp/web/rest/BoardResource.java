@@ -2,12 +2,19 @@ package com.mycompany.myapp.web.rest;
 
 import com.mycompany.myapp.domain.Board;
 import com.mycompany.myapp.repository.BoardRepository;
+import com.mycompany.myapp.service.BoardChangesService;
 import com.mycompany.myapp.service.BoardQueryService;
 import com.mycompany.myapp.service.BoardService;
 import com.mycompany.myapp.service.criteria.BoardCriteria;
+import com.mycompany.myapp.service.dto.BoardChangesDTO;
 import com.mycompany.myapp.web.rest.errors.BadRequestAlertException;
+import com.mycompany.myapp.web.rest.util.ETagUtil;
+import com.mycompany.myapp.web.rest.util.SlicePaginationUtil;
+import com.mycompany.myapp.web.rest.util.SlicePaginationUtil.CountMode;
+import com.mycompany.myapp.web.sse.BoardEventBroadcaster;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -16,9 +23,14 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
 import tech.jhipster.web.util.PaginationUtil;
@@ -44,26 +56,41 @@ public class BoardResource {
 
     private final BoardQueryService boardQueryService;
 
-    public BoardResource(BoardService boardService, BoardRepository boardRepository, BoardQueryService boardQueryService) {
+    private final BoardChangesService boardChangesService;
+
+    private final BoardEventBroadcaster boardEventBroadcaster;
+
+    public BoardResource(
+        BoardService boardService,
+        BoardRepository boardRepository,
+        BoardQueryService boardQueryService,
+        BoardChangesService boardChangesService,
+        BoardEventBroadcaster boardEventBroadcaster
+    ) {
         this.boardService = boardService;
         this.boardRepository = boardRepository;
         this.boardQueryService = boardQueryService;
+        this.boardChangesService = boardChangesService;
+        this.boardEventBroadcaster = boardEventBroadcaster;
     }
 
     /**
-     * {@code POST  /boards} : Create a new board.
+     * {@code POST  /boards} : Create a new board, with the lines of a board template.
      *
      * @param board the board to create.
-     * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the new board, or with status {@code 400 (Bad Request)} if the board has already an ID.
+     * @param template the name of the board template to create the lines from, the default template if absent.
+     * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the new board, or with status {@code 400 (Bad Request)} if the board has already an ID
+     * or if the template does not exist.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PostMapping("/boards")
-    public ResponseEntity<Board> createBoard(@RequestBody Board board) throws URISyntaxException {
+    public ResponseEntity<Board> createBoard(@RequestBody Board board, @RequestParam(name = "template", required = false) String template)
+        throws URISyntaxException {
         log.debug("REST request to save Board : {}", board);
         if (board.getId() != null) {
             throw new BadRequestAlertException("A new board cannot already have an ID", ENTITY_NAME, "idexists");
         }
-        Board result = boardService.save(board);
+        Board result = template == null ? boardService.save(board) : boardService.save(board, template);
         return ResponseEntity
             .created(new URI("/api/boards/" + result.getId()))
             .headers(HeaderUtil.createEntityCreationAlert(applicationName, true, ENTITY_NAME, result.getId().toString()))
@@ -75,14 +102,20 @@ public class BoardResource {
      *
      * @param id the id of the board to save.
      * @param board the board to update.
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated board,
+     * @param ifMatch the ETag of the board the update was made from, to update only if the board was not modified since.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated board and its ETag,
      * or with status {@code 400 (Bad Request)} if the board is not valid,
+     * or with status {@code 409 (Conflict)} if the board was modified since the version of its body,
+     * or with status {@code 412 (Precondition Failed)} if the board was modified since {@code If-Match},
      * or with status {@code 500 (Internal Server Error)} if the board couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PutMapping("/boards/{id}")
-    public ResponseEntity<Board> updateBoard(@PathVariable(value = "id", required = false) final Long id, @RequestBody Board board)
-        throws URISyntaxException {
+    public ResponseEntity<Board> updateBoard(
+        @PathVariable(value = "id", required = false) final Long id,
+        @RequestBody Board board,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) throws URISyntaxException {
         log.debug("REST request to update Board : {}, {}", id, board);
         if (board.getId() == null) {
             throw new BadRequestAlertException("Invalid id", ENTITY_NAME, "idnull");
@@ -91,13 +124,19 @@ public class BoardResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!boardRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
+        Board current = boardRepository
+            .findById(id)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
+        ETagUtil.checkIfMatch(ifMatch, eTag(current));
+        if (ifMatch != null) {
+            // the precondition holds, the update applies to the current version
+            board.setVersion(current.getVersion());
         }
 
         Board result = boardService.update(board);
         return ResponseEntity
             .ok()
+            .eTag(eTag(result))
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, board.getId().toString()))
             .body(result);
     }
@@ -107,15 +146,21 @@ public class BoardResource {
      *
      * @param id the id of the board to save.
      * @param board the board to update.
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated board,
+     * @param ifMatch the ETag of the board the update was made from, to update only if the board was not modified since.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated board and its ETag,
      * or with status {@code 400 (Bad Request)} if the board is not valid,
+     * or with status {@code 409 (Conflict)} if the board was modified since the version of its body,
+     * or with status {@code 412 (Precondition Failed)} if the board was modified since {@code If-Match},
      * or with status {@code 404 (Not Found)} if the board is not found,
      * or with status {@code 500 (Internal Server Error)} if the board couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PatchMapping(value = "/boards/{id}", consumes = { "application/json", "application/merge-patch+json" })
-    public ResponseEntity<Board> partialUpdateBoard(@PathVariable(value = "id", required = false) final Long id, @RequestBody Board board)
-        throws URISyntaxException {
+    public ResponseEntity<Board> partialUpdateBoard(
+        @PathVariable(value = "id", required = false) final Long id,
+        @RequestBody Board board,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) throws URISyntaxException {
         log.debug("REST request to partial update Board partially : {}, {}", id, board);
         if (board.getId() == null) {
             throw new BadRequestAlertException("Invalid id", ENTITY_NAME, "idnull");
@@ -124,32 +169,63 @@ public class BoardResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!boardRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
+        Board current = boardRepository
+            .findById(id)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
+        ETagUtil.checkIfMatch(ifMatch, eTag(current));
+        if (ifMatch != null) {
+            // the precondition holds, the update applies to the current version
+            board.setVersion(current.getVersion());
         }
 
         Optional<Board> result = boardService.partialUpdate(board);
 
-        return ResponseUtil.wrapOrNotFound(
+        return ETagUtil.wrapOrNotFound(
             result,
+            BoardResource::eTag,
             HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, board.getId().toString())
         );
     }
 
     /**
      * {@code GET  /boards} : get all the boards.
+     * <p>
+     * When {@code after} is given, the boards are read with keyset pagination instead: ordered by id, starting
+     * after the given id (use {@code 0} for the first slice), without a total count. The next slice is then
+     * linked from the {@code Link} header.
      *
-     * @param pageable the pagination information.
      * @param criteria the criteria which the requested entities should match.
+     * @param after the id of the last board of the previous slice, to use keyset pagination.
+     * @param count how the total number of boards is computed: {@code EXACT} (the default), {@code ESTIMATED}, or
+     * {@code NONE} to only link the next page without a {@code X-Total-Count} header.
+     * @param pageable the pagination information.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of boards in body.
      */
     @GetMapping("/boards")
     public ResponseEntity<List<Board>> getAllBoards(
         BoardCriteria criteria,
+        @RequestParam(name = SlicePaginationUtil.AFTER_PARAMETER, required = false) Long after,
+        @RequestParam(name = SlicePaginationUtil.COUNT_PARAMETER, defaultValue = "EXACT") CountMode count,
         @org.springdoc.api.annotations.ParameterObject Pageable pageable
     ) {
         log.debug("REST request to get Boards by criteria: {}", criteria);
-        Page<Board> page = boardQueryService.findByCriteria(criteria, pageable);
+        if (after != null) {
+            Slice<Board> slice = boardQueryService.findByCriteriaAfter(criteria, after, pageable.getPageSize());
+            HttpHeaders headers = SlicePaginationUtil.generateKeysetHttpHeaders(
+                ServletUriComponentsBuilder.fromCurrentRequest(),
+                slice,
+                Board::getId
+            );
+            return ResponseEntity.ok().headers(headers).body(slice.getContent());
+        }
+        if (count == CountMode.NONE) {
+            Slice<Board> slice = boardQueryService.findSliceByCriteria(criteria, pageable);
+            HttpHeaders headers = SlicePaginationUtil.generateSliceHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), slice);
+            return ResponseEntity.ok().headers(headers).body(slice.getContent());
+        }
+        Page<Board> page = count == CountMode.ESTIMATED
+            ? boardQueryService.findByCriteriaWithEstimatedCount(criteria, pageable)
+            : boardQueryService.findByCriteria(criteria, pageable);
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
         return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
@@ -170,15 +246,71 @@ public class BoardResource {
      * {@code GET  /boards/:id} : get the "id" board.
      *
      * @param id the id of the board to retrieve.
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the board, or with status {@code 404 (Not Found)}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the board and its ETag,
+     * or with status {@code 304 (Not Modified)} if it matches {@code If-None-Match}, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/boards/{id}")
     public ResponseEntity<Board> getBoard(@PathVariable Long id) {
         log.debug("REST request to get Board : {}", id);
         Optional<Board> board = boardService.findOne(id);
+        return ETagUtil.wrapOrNotFound(board, BoardResource::eTag);
+    }
+
+    /**
+     * {@code GET  /boards/:id/snapshot} : get the "id" board with all its lines and their cards.
+     *
+     * @param id the id of the board to retrieve.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the board tree, or with status {@code 404 (Not Found)}.
+     */
+    @GetMapping("/boards/{id}/snapshot")
+    public ResponseEntity<Board> getBoardSnapshot(@PathVariable Long id) {
+        log.debug("REST request to get Board snapshot : {}", id);
+        Optional<Board> board = boardService.findOneWithLinesAndCards(id);
         return ResponseUtil.wrapOrNotFound(board);
     }
 
+    /**
+     * {@code GET  /boards/:id/changes?since=} : get what changed on the "id" board since the given time.
+     * <p>
+     * The lines and cards created or updated since then are returned whole, those deleted or moved to another board
+     * as tombstones. The next sync asks for the changes since the returned {@code until}.
+     *
+     * @param id the id of the board to sync.
+     * @param since the ISO-8601 time of the previous sync.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the changes,
+     * or with status {@code 404 (Not Found)},
+     * or with status {@code 410 (Gone)} if the deletions since this time are no longer kept and the board must be reloaded.
+     */
+    @GetMapping("/boards/{id}/changes")
+    public ResponseEntity<BoardChangesDTO> getBoardChanges(@PathVariable Long id, @RequestParam(name = "since") Instant since) {
+        log.debug("REST request to get the changes of Board : {} since {}", id, since);
+        Optional<BoardChangesDTO> changes = boardChangesService.findChanges(id, since);
+        return ResponseUtil.wrapOrNotFound(changes);
+    }
+
+    /**
+     * {@code GET  /boards/:id/events} : watch the "id" board, as server-sent events.
+     * <p>
+     * Each event tells which board, line or card was created, updated, moved or deleted, once committed; the client
+     * then gets the changes. Once (re)connected, the client gets the changes it may have missed first: the events have
+     * no id and {@code Last-Event-ID} is ignored.
+     * <p>
+     * Like the other requests, this one is authenticated by the {@code Authorization} header, which the browser
+     * {@code EventSource} cannot set: browsers need an {@code EventSource} polyfill which sends headers, or a
+     * {@code fetch} reading the stream.
+     *
+     * @param id the id of the board to watch.
+     * @return the stream of events, or status {@code 404 (Not Found)}.
+     */
+    @GetMapping(value = "/boards/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter getBoardEvents(@PathVariable Long id) {
+        log.debug("REST request to watch the events of Board : {}", id);
+        if (!boardRepository.existsById(id)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND);
+        }
+        return boardEventBroadcaster.subscribe(id);
+    }
+
     /**
      * {@code DELETE  /boards/:id} : delete the "id" board.
      *
@@ -194,4 +326,11 @@ public class BoardResource {
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, true, ENTITY_NAME, id.toString()))
             .build();
     }
+
+    /**
+     * @return the ETag of a board, which embeds no other entity in its representation.
+     */
+    private static String eTag(Board board) {
+        return ETagUtil.eTag(board.getVersion());
+    }
 }
@@ -0,0 +1,136 @@
+package com.mycompany.myapp.web.rest;
+
+import com.mycompany.myapp.domain.BoardTemplate;
+import com.mycompany.myapp.repository.BoardTemplateRepository;
+import com.mycompany.myapp.security.AuthoritiesConstants;
+import com.mycompany.myapp.service.BoardTemplateService;
+import com.mycompany.myapp.web.rest.errors.BadRequestAlertException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import tech.jhipster.web.util.HeaderUtil;
+
+/**
+ * REST controller for managing {@link com.mycompany.myapp.domain.BoardTemplate}.
+ */
+@RestController
+@RequestMapping("/api")
+public class BoardTemplateResource {
+
+    private final Logger log = LoggerFactory.getLogger(BoardTemplateResource.class);
+
+    private static final String ENTITY_NAME = "boardTemplate";
+
+    @Value("${jhipster.clientApp.name}")
+    private String applicationName;
+
+    private final BoardTemplateService boardTemplateService;
+
+    private final BoardTemplateRepository boardTemplateRepository;
+
+    public BoardTemplateResource(BoardTemplateService boardTemplateService, BoardTemplateRepository boardTemplateRepository) {
+        this.boardTemplateService = boardTemplateService;
+        this.boardTemplateRepository = boardTemplateRepository;
+    }
+
+    /**
+     * {@code POST  /board-templates} : Create a new board template.
+     *
+     * @param boardTemplate the board template to create.
+     * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the new board template,
+     * or with status {@code 400 (Bad Request)} if the board template has already an ID or its name is already used.
+     * @throws URISyntaxException if the Location URI syntax is incorrect.
+     */
+    @PostMapping("/board-templates")
+    @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
+    public ResponseEntity<BoardTemplate> createBoardTemplate(@Valid @RequestBody BoardTemplate boardTemplate) throws URISyntaxException {
+        log.debug("REST request to save BoardTemplate : {}", boardTemplate);
+        if (boardTemplate.getId() != null) {
+            throw new BadRequestAlertException("A new boardTemplate cannot already have an ID", ENTITY_NAME, "idexists");
+        }
+        checkNameIsUnused(boardTemplate);
+        BoardTemplate result = boardTemplateService.save(boardTemplate);
+        return ResponseEntity
+            .created(new URI("/api/board-templates/" + result.getId()))
+            .headers(HeaderUtil.createEntityCreationAlert(applicationName, true, ENTITY_NAME, result.getId().toString()))
+            .body(result);
+    }
+
+    /**
+     * {@code PUT  /board-templates/:id} : Updates an existing board template.
+     *
+     * @param id the id of the board template to save.
+     * @param boardTemplate the board template to update.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated board template,
+     * or with status {@code 400 (Bad Request)} if the board template is not valid.
+     */
+    @PutMapping("/board-templates/{id}")
+    @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
+    public ResponseEntity<BoardTemplate> updateBoardTemplate(
+        @PathVariable(value = "id", required = false) final Long id,
+        @Valid @RequestBody BoardTemplate boardTemplate
+    ) {
+        log.debug("REST request to update BoardTemplate : {}, {}", id, boardTemplate);
+        if (boardTemplate.getId() == null) {
+            throw new BadRequestAlertException("Invalid id", ENTITY_NAME, "idnull");
+        }
+        if (!Objects.equals(id, boardTemplate.getId())) {
+            throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
+        }
+
+        if (!boardTemplateRepository.existsById(id)) {
+            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
+        }
+        checkNameIsUnused(boardTemplate);
+
+        BoardTemplate result = boardTemplateService.save(boardTemplate);
+        return ResponseEntity
+            .ok()
+            .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, boardTemplate.getId().toString()))
+            .body(result);
+    }
+
+    /**
+     * {@code GET  /board-templates} : get all the board templates.
+     *
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of board templates in body.
+     */
+    @GetMapping("/board-templates")
+    public List<BoardTemplate> getAllBoardTemplates() {
+        log.debug("REST request to get all BoardTemplates");
+        return boardTemplateService.findAll();
+    }
+
+    /**
+     * {@code DELETE  /board-templates/:id} : delete the "id" board template.
+     *
+     * @param id the id of the board template to delete.
+     * @return the {@link ResponseEntity} with status {@code 204 (NO_CONTENT)}.
+     */
+    @DeleteMapping("/board-templates/{id}")
+    @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
+    public ResponseEntity<Void> deleteBoardTemplate(@PathVariable Long id) {
+        log.debug("REST request to delete BoardTemplate : {}", id);
+        boardTemplateService.delete(id);
+        return ResponseEntity
+            .noContent()
+            .headers(HeaderUtil.createEntityDeletionAlert(applicationName, true, ENTITY_NAME, id.toString()))
+            .build();
+    }
+
+    private void checkNameIsUnused(BoardTemplate boardTemplate) {
+        Optional<BoardTemplate> existing = boardTemplateRepository.findOneByName(boardTemplate.getName());
+        if (existing.isPresent() && !existing.get().getId().equals(boardTemplate.getId())) {
+            throw new BadRequestAlertException("Board template name already used", ENTITY_NAME, "nameexists");
+        }
+    }
+}
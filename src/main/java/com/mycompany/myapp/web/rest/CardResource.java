@@ -1,11 +1,26 @@
 package com.mycompany.myapp.web.rest;
 
+import com.mycompany.myapp.config.ApplicationProperties;
 import com.mycompany.myapp.domain.Card;
 import com.mycompany.myapp.repository.CardRepository;
+import com.mycompany.myapp.repository.LineRepository;
+import com.mycompany.myapp.security.AuthoritiesConstants;
+import com.mycompany.myapp.service.CardBulkService;
+import com.mycompany.myapp.service.CardExportService;
+import com.mycompany.myapp.service.CardFileFormat;
+import com.mycompany.myapp.service.CardImportService;
 import com.mycompany.myapp.service.CardQueryService;
 import com.mycompany.myapp.service.CardService;
 import com.mycompany.myapp.service.criteria.CardCriteria;
+import com.mycompany.myapp.service.dto.BulkItemResultDTO;
+import com.mycompany.myapp.service.dto.CardImportResultDTO;
+import com.mycompany.myapp.service.dto.CardMoveDTO;
 import com.mycompany.myapp.web.rest.errors.BadRequestAlertException;
+import com.mycompany.myapp.web.rest.util.ETagUtil;
+import com.mycompany.myapp.web.rest.util.SlicePaginationUtil;
+import com.mycompany.myapp.web.rest.util.SlicePaginationUtil.CountMode;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
@@ -16,13 +31,17 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
 import tech.jhipster.web.util.PaginationUtil;
-import tech.jhipster.web.util.ResponseUtil;
 
 /**
  * REST controller for managing {@link com.mycompany.myapp.domain.Card}.
@@ -42,12 +61,36 @@ public class CardResource {
 
     private final CardRepository cardRepository;
 
+    private final LineRepository lineRepository;
+
     private final CardQueryService cardQueryService;
 
-    public CardResource(CardService cardService, CardRepository cardRepository, CardQueryService cardQueryService) {
+    private final CardBulkService cardBulkService;
+
+    private final CardExportService cardExportService;
+
+    private final CardImportService cardImportService;
+
+    private final ApplicationProperties applicationProperties;
+
+    public CardResource(
+        CardService cardService,
+        CardRepository cardRepository,
+        LineRepository lineRepository,
+        CardQueryService cardQueryService,
+        CardBulkService cardBulkService,
+        CardExportService cardExportService,
+        CardImportService cardImportService,
+        ApplicationProperties applicationProperties
+    ) {
         this.cardService = cardService;
         this.cardRepository = cardRepository;
+        this.lineRepository = lineRepository;
         this.cardQueryService = cardQueryService;
+        this.cardBulkService = cardBulkService;
+        this.cardExportService = cardExportService;
+        this.cardImportService = cardImportService;
+        this.applicationProperties = applicationProperties;
     }
 
     /**
@@ -70,19 +113,73 @@ public class CardResource {
             .body(result);
     }
 
+    /**
+     * {@code POST  /cards/bulk} : Create new cards in chunked, JDBC-batched transactions.
+     *
+     * @param cards the cards to create.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body one result per card,
+     * or with status {@code 400 (Bad Request)} if too many cards are sent at once.
+     */
+    @PostMapping("/cards/bulk")
+    public ResponseEntity<List<BulkItemResultDTO>> createCards(@RequestBody List<Card> cards) {
+        log.debug("REST request to bulk save {} Cards", cards.size());
+        checkBulkSize(cards);
+        return ResponseEntity.ok().body(cardBulkService.createAll(cards));
+    }
+
+    /**
+     * {@code PUT  /cards/bulk} : Updates existing cards in chunked, JDBC-batched transactions.
+     *
+     * @param cards the cards to update.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body one result per card,
+     * or with status {@code 400 (Bad Request)} if too many cards are sent at once.
+     */
+    @PutMapping("/cards/bulk")
+    public ResponseEntity<List<BulkItemResultDTO>> updateCards(@RequestBody List<Card> cards) {
+        log.debug("REST request to bulk update {} Cards", cards.size());
+        checkBulkSize(cards);
+        return ResponseEntity.ok().body(cardBulkService.updateAll(cards));
+    }
+
+    /**
+     * {@code DELETE  /cards/bulk} : delete the cards with the given ids in chunked, JDBC-batched transactions.
+     *
+     * @param ids the ids of the cards to delete.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body one result per id,
+     * or with status {@code 400 (Bad Request)} if too many ids are sent at once.
+     */
+    @DeleteMapping("/cards/bulk")
+    public ResponseEntity<List<BulkItemResultDTO>> deleteCards(@RequestBody List<Long> ids) {
+        log.debug("REST request to bulk delete {} Cards", ids.size());
+        checkBulkSize(ids);
+        return ResponseEntity.ok().body(cardBulkService.deleteAll(ids));
+    }
+
+    private void checkBulkSize(List<?> items) {
+        if (items.size() > applicationProperties.getBulk().getMaxItems()) {
+            throw new BadRequestAlertException("Too many items in a single bulk request", ENTITY_NAME, "bulktoolarge");
+        }
+    }
+
     /**
      * {@code PUT  /cards/:id} : Updates an existing card.
      *
      * @param id the id of the card to save.
      * @param card the card to update.
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated card,
+     * @param ifMatch the ETag of the card the update was made from, to update only if the card was not modified since.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated card and its ETag,
      * or with status {@code 400 (Bad Request)} if the card is not valid,
+     * or with status {@code 409 (Conflict)} if the card was modified since the version of its body,
+     * or with status {@code 412 (Precondition Failed)} if the card was modified since {@code If-Match},
      * or with status {@code 500 (Internal Server Error)} if the card couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PutMapping("/cards/{id}")
-    public ResponseEntity<Card> updateCard(@PathVariable(value = "id", required = false) final Long id, @RequestBody Card card)
-        throws URISyntaxException {
+    public ResponseEntity<Card> updateCard(
+        @PathVariable(value = "id", required = false) final Long id,
+        @RequestBody Card card,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) throws URISyntaxException {
         log.debug("REST request to update Card : {}, {}", id, card);
         if (card.getId() == null) {
             throw new BadRequestAlertException("Invalid id", ENTITY_NAME, "idnull");
@@ -91,13 +188,19 @@ public class CardResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!cardRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
+        Card current = cardRepository
+            .findById(id)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
+        ETagUtil.checkIfMatch(ifMatch, eTag(current));
+        if (ifMatch != null) {
+            // the precondition holds, the update applies to the current version
+            card.setVersion(current.getVersion());
         }
 
         Card result = cardService.update(card);
         return ResponseEntity
             .ok()
+            .eTag(eTag(result))
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, card.getId().toString()))
             .body(result);
     }
@@ -107,15 +210,21 @@ public class CardResource {
      *
      * @param id the id of the card to save.
      * @param card the card to update.
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated card,
+     * @param ifMatch the ETag of the card the update was made from, to update only if the card was not modified since.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated card and its ETag,
      * or with status {@code 400 (Bad Request)} if the card is not valid,
+     * or with status {@code 409 (Conflict)} if the card was modified since the version of its body,
+     * or with status {@code 412 (Precondition Failed)} if the card was modified since {@code If-Match},
      * or with status {@code 404 (Not Found)} if the card is not found,
      * or with status {@code 500 (Internal Server Error)} if the card couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PatchMapping(value = "/cards/{id}", consumes = { "application/json", "application/merge-patch+json" })
-    public ResponseEntity<Card> partialUpdateCard(@PathVariable(value = "id", required = false) final Long id, @RequestBody Card card)
-        throws URISyntaxException {
+    public ResponseEntity<Card> partialUpdateCard(
+        @PathVariable(value = "id", required = false) final Long id,
+        @RequestBody Card card,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) throws URISyntaxException {
         log.debug("REST request to partial update Card partially : {}, {}", id, card);
         if (card.getId() == null) {
             throw new BadRequestAlertException("Invalid id", ENTITY_NAME, "idnull");
@@ -124,33 +233,183 @@ public class CardResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!cardRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
+        Card current = cardRepository
+            .findById(id)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
+        ETagUtil.checkIfMatch(ifMatch, eTag(current));
+        if (ifMatch != null) {
+            // the precondition holds, the update applies to the current version
+            card.setVersion(current.getVersion());
         }
 
         Optional<Card> result = cardService.partialUpdate(card);
 
-        return ResponseUtil.wrapOrNotFound(
+        return ETagUtil.wrapOrNotFound(
             result,
+            CardResource::eTag,
             HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, card.getId().toString())
         );
     }
 
+    /**
+     * {@code POST  /cards/:id/move} : Move a card to a line, after one of its cards or first.
+     * <p>
+     * The card is given a position between those of its new neighbours: only the moved card is written.
+     *
+     * @param id the id of the card to move.
+     * @param move the line to move the card to and the card of that line to move it after, none to move it first.
+     * @param ifMatch the ETag of the card the move was made from, to move it only if the card was not modified since.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the moved card and its ETag,
+     * or with status {@code 400 (Bad Request)} if the card, the line, or the card to move after is not valid,
+     * or with status {@code 409 (Conflict)} if the card was modified since the version of the move,
+     * or with status {@code 412 (Precondition Failed)} if the card was modified since {@code If-Match}.
+     */
+    @PostMapping("/cards/{id}/move")
+    public ResponseEntity<Card> moveCard(
+        @PathVariable Long id,
+        @RequestBody CardMoveDTO move,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) {
+        log.debug("REST request to move Card : {}, {}", id, move);
+        Card current = cardRepository
+            .findById(id)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
+        if (move.getLineId() == null || !lineRepository.existsById(move.getLineId())) {
+            throw new BadRequestAlertException("Line not found", ENTITY_NAME, "lineidnotfound");
+        }
+        ETagUtil.checkIfMatch(ifMatch, eTag(current));
+        if (ifMatch != null) {
+            // the precondition holds, the move applies to the current version
+            move.setVersion(current.getVersion());
+        }
+
+        Optional<Card> result = cardService.move(id, move);
+
+        return ETagUtil.wrapOrNotFound(
+            result,
+            CardResource::eTag,
+            HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, id.toString())
+        );
+    }
+
     /**
      * {@code GET  /cards} : get all the cards.
+     * <p>
+     * When {@code after} is given, the cards are read with keyset pagination instead: ordered by id, starting
+     * after the given id (use {@code 0} for the first slice), without a total count. The next slice is then
+     * linked from the {@code Link} header.
      *
-     * @param pageable the pagination information.
      * @param criteria the criteria which the requested entities should match.
+     * @param after the id of the last card of the previous slice, to use keyset pagination.
+     * @param count how the total number of cards is computed: {@code EXACT} (the default), {@code ESTIMATED}, or
+     * {@code NONE} to only link the next page without a {@code X-Total-Count} header.
+     * @param pageable the pagination information.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of cards in body.
      */
     @GetMapping("/cards")
-    public ResponseEntity<List<Card>> getAllCards(CardCriteria criteria, @org.springdoc.api.annotations.ParameterObject Pageable pageable) {
+    public ResponseEntity<List<Card>> getAllCards(
+        CardCriteria criteria,
+        @RequestParam(name = SlicePaginationUtil.AFTER_PARAMETER, required = false) Long after,
+        @RequestParam(name = SlicePaginationUtil.COUNT_PARAMETER, defaultValue = "EXACT") CountMode count,
+        @org.springdoc.api.annotations.ParameterObject Pageable pageable
+    ) {
         log.debug("REST request to get Cards by criteria: {}", criteria);
-        Page<Card> page = cardQueryService.findByCriteria(criteria, pageable);
+        if (after != null) {
+            Slice<Card> slice = cardQueryService.findByCriteriaAfter(criteria, after, pageable.getPageSize());
+            HttpHeaders headers = SlicePaginationUtil.generateKeysetHttpHeaders(
+                ServletUriComponentsBuilder.fromCurrentRequest(),
+                slice,
+                Card::getId
+            );
+            return ResponseEntity.ok().headers(headers).body(slice.getContent());
+        }
+        if (count == CountMode.NONE) {
+            Slice<Card> slice = cardQueryService.findSliceByCriteria(criteria, pageable);
+            HttpHeaders headers = SlicePaginationUtil.generateSliceHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), slice);
+            return ResponseEntity.ok().headers(headers).body(slice.getContent());
+        }
+        Page<Card> page = count == CountMode.ESTIMATED
+            ? cardQueryService.findByCriteriaWithEstimatedCount(criteria, pageable)
+            : cardQueryService.findByCriteria(criteria, pageable);
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
         return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
 
+    /**
+     * {@code GET  /cards/export} : export all the cards matching the criteria, ordered by id.
+     * <p>
+     * The cards are streamed from the database to the response, so exports of any size use the same memory.
+     *
+     * @param criteria the criteria which the exported cards should match.
+     * @param format the format of the export, {@code ndjson} (the default) or {@code csv}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the cards in body,
+     * or with status {@code 400 (Bad Request)} if the format is not supported.
+     */
+    @GetMapping("/cards/export")
+    @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
+    public ResponseEntity<StreamingResponseBody> exportCards(
+        CardCriteria criteria,
+        @RequestParam(name = "format", defaultValue = "ndjson") String format
+    ) {
+        log.debug("REST request to export Cards as {} by criteria: {}", format, criteria);
+        CardFileFormat exportFormat = CardFileFormat
+            .fromName(format)
+            .orElseThrow(() -> new BadRequestAlertException("Unsupported export format", ENTITY_NAME, "formatinvalid"));
+        StreamingResponseBody body = out -> cardExportService.export(criteria, exportFormat, out);
+        return ResponseEntity
+            .ok()
+            .contentType(MediaType.parseMediaType(exportFormat.getMediaType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"cards." + exportFormat.getExtension() + "\"")
+            .body(body);
+    }
+
+    /**
+     * {@code POST  /cards/import} : Create a card for each record of the uploaded file.
+     * <p>
+     * The file is parsed as it is read and the cards are created in chunked, JDBC-batched transactions,
+     * so files of any size use the same memory. Ids in the file are ignored.
+     *
+     * @param file the file to import.
+     * @param format the format of the file, {@code ndjson} (the default) or {@code csv}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the number of imported and failed cards,
+     * or with status {@code 400 (Bad Request)} if the format is not supported.
+     * @throws IOException if the file cannot be read.
+     */
+    @PostMapping(value = "/cards/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
+    public ResponseEntity<CardImportResultDTO> importCards(
+        @RequestParam("file") MultipartFile file,
+        @RequestParam(name = "format", defaultValue = "ndjson") String format
+    ) throws IOException {
+        log.debug("REST request to import Cards as {} from {} ({} bytes)", format, file.getOriginalFilename(), file.getSize());
+        CardFileFormat importFormat = CardFileFormat
+            .fromName(format)
+            .orElseThrow(() -> new BadRequestAlertException("Unsupported import format", ENTITY_NAME, "formatinvalid"));
+        try (InputStream in = file.getInputStream()) {
+            return ResponseEntity.ok().body(cardImportService.importCards(in, importFormat));
+        }
+    }
+
+    /**
+     * {@code GET  /cards/_search?q=:query} : search the cards whose title or description match the query.
+     * <p>
+     * On PostgreSQL the search uses the full-text index of the cards and ranks the results, title matches first.
+     *
+     * @param query the words to search for.
+     * @param pageable the pagination information; the results are ordered by relevance.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of matching cards in body.
+     */
+    @GetMapping("/cards/_search")
+    public ResponseEntity<List<Card>> searchCards(
+        @RequestParam(name = "q") String query,
+        @org.springdoc.api.annotations.ParameterObject Pageable pageable
+    ) {
+        log.debug("REST request to search Cards for query: {}", query);
+        Slice<Card> slice = cardQueryService.search(query, pageable);
+        HttpHeaders headers = SlicePaginationUtil.generateSliceHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), slice);
+        return ResponseEntity.ok().headers(headers).body(slice.getContent());
+    }
+
     /**
      * {@code GET  /cards/count} : count all the cards.
      *
@@ -167,13 +426,14 @@ public class CardResource {
      * {@code GET  /cards/:id} : get the "id" card.
      *
      * @param id the id of the card to retrieve.
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the card, or with status {@code 404 (Not Found)}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the card and its ETag,
+     * or with status {@code 304 (Not Modified)} if it matches {@code If-None-Match}, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/cards/{id}")
     public ResponseEntity<Card> getCard(@PathVariable Long id) {
         log.debug("REST request to get Card : {}", id);
         Optional<Card> card = cardService.findOne(id);
-        return ResponseUtil.wrapOrNotFound(card);
+        return ETagUtil.wrapOrNotFound(card, CardResource::eTag);
     }
 
     /**
@@ -191,4 +451,11 @@ public class CardResource {
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, true, ENTITY_NAME, id.toString()))
             .build();
     }
+
+    /**
+     * @return the ETag of a card, which changes with the card and with the line embedded in its representation.
+     */
+    private static String eTag(Card card) {
+        return ETagUtil.eTag(card.getVersion(), card.getLine() == null ? null : card.getLine().getVersion());
+    }
 }
@@ -6,6 +6,9 @@ import com.mycompany.myapp.service.LineQueryService;
 import com.mycompany.myapp.service.LineService;
 import com.mycompany.myapp.service.criteria.LineCriteria;
 import com.mycompany.myapp.web.rest.errors.BadRequestAlertException;
+import com.mycompany.myapp.web.rest.util.ETagUtil;
+import com.mycompany.myapp.web.rest.util.SlicePaginationUtil;
+import com.mycompany.myapp.web.rest.util.SlicePaginationUtil.CountMode;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
@@ -16,13 +19,13 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
 import tech.jhipster.web.util.PaginationUtil;
-import tech.jhipster.web.util.ResponseUtil;
 
 /**
  * REST controller for managing {@link com.mycompany.myapp.domain.Line}.
@@ -75,14 +78,20 @@ public class LineResource {
      *
      * @param id the id of the line to save.
      * @param line the line to update.
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated line,
+     * @param ifMatch the ETag of the line the update was made from, to update only if the line was not modified since.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated line and its ETag,
      * or with status {@code 400 (Bad Request)} if the line is not valid,
+     * or with status {@code 409 (Conflict)} if the line was modified since the version of its body,
+     * or with status {@code 412 (Precondition Failed)} if the line was modified since {@code If-Match},
      * or with status {@code 500 (Internal Server Error)} if the line couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PutMapping("/lines/{id}")
-    public ResponseEntity<Line> updateLine(@PathVariable(value = "id", required = false) final Long id, @RequestBody Line line)
-        throws URISyntaxException {
+    public ResponseEntity<Line> updateLine(
+        @PathVariable(value = "id", required = false) final Long id,
+        @RequestBody Line line,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) throws URISyntaxException {
         log.debug("REST request to update Line : {}, {}", id, line);
         if (line.getId() == null) {
             throw new BadRequestAlertException("Invalid id", ENTITY_NAME, "idnull");
@@ -91,13 +100,19 @@ public class LineResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!lineRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
+        Line current = lineRepository
+            .findById(id)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
+        ETagUtil.checkIfMatch(ifMatch, eTag(current));
+        if (ifMatch != null) {
+            // the precondition holds, the update applies to the current version
+            line.setVersion(current.getVersion());
         }
 
         Line result = lineService.update(line);
         return ResponseEntity
             .ok()
+            .eTag(eTag(result))
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, line.getId().toString()))
             .body(result);
     }
@@ -107,15 +122,21 @@ public class LineResource {
      *
      * @param id the id of the line to save.
      * @param line the line to update.
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated line,
+     * @param ifMatch the ETag of the line the update was made from, to update only if the line was not modified since.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated line and its ETag,
      * or with status {@code 400 (Bad Request)} if the line is not valid,
+     * or with status {@code 409 (Conflict)} if the line was modified since the version of its body,
+     * or with status {@code 412 (Precondition Failed)} if the line was modified since {@code If-Match},
      * or with status {@code 404 (Not Found)} if the line is not found,
      * or with status {@code 500 (Internal Server Error)} if the line couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PatchMapping(value = "/lines/{id}", consumes = { "application/json", "application/merge-patch+json" })
-    public ResponseEntity<Line> partialUpdateLine(@PathVariable(value = "id", required = false) final Long id, @RequestBody Line line)
-        throws URISyntaxException {
+    public ResponseEntity<Line> partialUpdateLine(
+        @PathVariable(value = "id", required = false) final Long id,
+        @RequestBody Line line,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) throws URISyntaxException {
         log.debug("REST request to partial update Line partially : {}, {}", id, line);
         if (line.getId() == null) {
             throw new BadRequestAlertException("Invalid id", ENTITY_NAME, "idnull");
@@ -124,29 +145,63 @@ public class LineResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!lineRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
+        Line current = lineRepository
+            .findById(id)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
+        ETagUtil.checkIfMatch(ifMatch, eTag(current));
+        if (ifMatch != null) {
+            // the precondition holds, the update applies to the current version
+            line.setVersion(current.getVersion());
         }
 
         Optional<Line> result = lineService.partialUpdate(line);
 
-        return ResponseUtil.wrapOrNotFound(
+        return ETagUtil.wrapOrNotFound(
             result,
+            LineResource::eTag,
             HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, line.getId().toString())
         );
     }
 
     /**
      * {@code GET  /lines} : get all the lines.
+     * <p>
+     * When {@code after} is given, the lines are read with keyset pagination instead: ordered by id, starting
+     * after the given id (use {@code 0} for the first slice), without a total count. The next slice is then
+     * linked from the {@code Link} header.
      *
-     * @param pageable the pagination information.
      * @param criteria the criteria which the requested entities should match.
+     * @param after the id of the last line of the previous slice, to use keyset pagination.
+     * @param count how the total number of lines is computed: {@code EXACT} (the default), {@code ESTIMATED}, or
+     * {@code NONE} to only link the next page without a {@code X-Total-Count} header.
+     * @param pageable the pagination information.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of lines in body.
      */
     @GetMapping("/lines")
-    public ResponseEntity<List<Line>> getAllLines(LineCriteria criteria, @org.springdoc.api.annotations.ParameterObject Pageable pageable) {
+    public ResponseEntity<List<Line>> getAllLines(
+        LineCriteria criteria,
+        @RequestParam(name = SlicePaginationUtil.AFTER_PARAMETER, required = false) Long after,
+        @RequestParam(name = SlicePaginationUtil.COUNT_PARAMETER, defaultValue = "EXACT") CountMode count,
+        @org.springdoc.api.annotations.ParameterObject Pageable pageable
+    ) {
         log.debug("REST request to get Lines by criteria: {}", criteria);
-        Page<Line> page = lineQueryService.findByCriteria(criteria, pageable);
+        if (after != null) {
+            Slice<Line> slice = lineQueryService.findByCriteriaAfter(criteria, after, pageable.getPageSize());
+            HttpHeaders headers = SlicePaginationUtil.generateKeysetHttpHeaders(
+                ServletUriComponentsBuilder.fromCurrentRequest(),
+                slice,
+                Line::getId
+            );
+            return ResponseEntity.ok().headers(headers).body(slice.getContent());
+        }
+        if (count == CountMode.NONE) {
+            Slice<Line> slice = lineQueryService.findSliceByCriteria(criteria, pageable);
+            HttpHeaders headers = SlicePaginationUtil.generateSliceHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), slice);
+            return ResponseEntity.ok().headers(headers).body(slice.getContent());
+        }
+        Page<Line> page = count == CountMode.ESTIMATED
+            ? lineQueryService.findByCriteriaWithEstimatedCount(criteria, pageable)
+            : lineQueryService.findByCriteria(criteria, pageable);
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
         return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
@@ -167,13 +222,14 @@ public class LineResource {
      * {@code GET  /lines/:id} : get the "id" line.
      *
      * @param id the id of the line to retrieve.
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the line, or with status {@code 404 (Not Found)}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the line and its ETag,
+     * or with status {@code 304 (Not Modified)} if it matches {@code If-None-Match}, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/lines/{id}")
     public ResponseEntity<Line> getLine(@PathVariable Long id) {
         log.debug("REST request to get Line : {}", id);
         Optional<Line> line = lineService.findOne(id);
-        return ResponseUtil.wrapOrNotFound(line);
+        return ETagUtil.wrapOrNotFound(line, LineResource::eTag);
     }
 
     /**
@@ -191,4 +247,11 @@ public class LineResource {
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, true, ENTITY_NAME, id.toString()))
             .build();
     }
+
+    /**
+     * @return the ETag of a line, which changes with the line and with the board embedded in its representation.
+     */
+    private static String eTag(Line line) {
+        return ETagUtil.eTag(line.getVersion(), line.getBoard() == null ? null : line.getBoard().getVersion());
+    }
 }
@@ -0,0 +1,23 @@
+package com.mycompany.myapp.web.rest.errors;
+
+import java.util.Map;
+import org.zalando.problem.AbstractThrowableProblem;
+import org.zalando.problem.Status;
+
+@SuppressWarnings("java:S110") // Inheritance tree of classes should not be too deep
+public class PreconditionFailedException extends AbstractThrowableProblem {
+
+    private static final long serialVersionUID = 1L;
+
+    public PreconditionFailedException(String detail) {
+        super(
+            ErrorConstants.DEFAULT_TYPE,
+            "Precondition failed",
+            Status.PRECONDITION_FAILED,
+            detail,
+            null,
+            null,
+            Map.of("message", ErrorConstants.ERR_PRECONDITION_FAILED)
+        );
+    }
+}
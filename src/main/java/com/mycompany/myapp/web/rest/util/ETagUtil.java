@@ -0,0 +1,99 @@
+package com.mycompany.myapp.web.rest.util;
+
+import com.mycompany.myapp.web.rest.errors.PreconditionFailedException;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.Function;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Utility class for the {@code ETag} of versioned entities.
+ * <p>
+ * The ETag of an entity is its {@code @Version}, which Hibernate increments on each update, followed by the versions of
+ * the entities embedded in its representation, such as the line of a card: their updates change the body of the
+ * entity while its own version stays the same. Spring MVC answers a
+ * {@code GET} whose {@code If-None-Match} matches the ETag of the response with {@code 304 (Not Modified)}, without a
+ * body. An update is made conditional with {@code If-Match}, answered with {@code 412 (Precondition Failed)} when the
+ * entity was modified since.
+ */
+public final class ETagUtil {
+
+    private ETagUtil() {}
+
+    /**
+     * @param version the version of an entity.
+     * @param embeddedVersions the versions of the entities embedded in its representation, {@code null} for none.
+     * @return the strong ETag of these versions, {@code null} if the entity has no version.
+     */
+    public static String eTag(Long version, Long... embeddedVersions) {
+        if (version == null) {
+            return null;
+        }
+        StringBuilder eTag = new StringBuilder("\"").append(version);
+        for (Long embeddedVersion : embeddedVersions) {
+            if (embeddedVersion != null) {
+                eTag.append('-').append(embeddedVersion);
+            }
+        }
+        return eTag.append('"').toString();
+    }
+
+    /**
+     * Wrap the optional entity into a {@link ResponseEntity} with its ETag, which must be revalidated before reuse.
+     *
+     * @param maybeResponse the entity to return.
+     * @param eTag the ETag of the entity.
+     * @param <X> the type of the entity.
+     * @return the response with status {@code 200 (OK)}, or {@code 304 (Not Modified)} once checked against
+     * {@code If-None-Match}.
+     * @throws ResponseStatusException with status {@code 404 (Not Found)} if there is no entity.
+     */
+    public static <X> ResponseEntity<X> wrapOrNotFound(Optional<X> maybeResponse, Function<X, String> eTag) {
+        return wrapOrNotFound(maybeResponse, eTag, null);
+    }
+
+    /**
+     * Wrap the optional entity into a {@link ResponseEntity} with its ETag and the given headers.
+     *
+     * @param maybeResponse the entity to return.
+     * @param eTag the ETag of the entity.
+     * @param header the headers to add, may be {@code null}.
+     * @param <X> the type of the entity.
+     * @return the response with status {@code 200 (OK)}.
+     * @throws ResponseStatusException with status {@code 404 (Not Found)} if there is no entity.
+     */
+    public static <X> ResponseEntity<X> wrapOrNotFound(Optional<X> maybeResponse, Function<X, String> eTag, HttpHeaders header) {
+        return maybeResponse
+            .map(response ->
+                ResponseEntity
+                    .ok()
+                    .cacheControl(CacheControl.noCache())
+                    .eTag(eTag.apply(response))
+                    .headers(header)
+                    .body(response)
+            )
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     * Check the {@code If-Match} header of an update against the current ETag of the entity.
+     *
+     * @param ifMatch the {@code If-Match} header, {@code null} for an unconditional update.
+     * @param current the current ETag of the entity.
+     * @throws PreconditionFailedException if none of the ETags of {@code If-Match} is the current one.
+     */
+    public static void checkIfMatch(String ifMatch, String current) {
+        if (ifMatch == null || "*".equals(ifMatch.trim())) {
+            return;
+        }
+        // weak ETags never match with the strong comparison required by If-Match
+        boolean matches = Arrays.stream(ifMatch.split(",")).map(String::trim).anyMatch(tag -> tag.equals(current));
+        if (!matches) {
+            throw new PreconditionFailedException("The entity was modified, its current ETag is " + current);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.mycompany.myapp.web.rest.util;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Utility class for handling pagination without a total count.
+ * <p>
+ * Unlike {@link tech.jhipster.web.util.PaginationUtil}, no {@code X-Total-Count} is sent: the client follows the
+ * {@code rel="next"} link until there is no such link anymore. {@code X-Has-Next-Page} tells the same for clients
+ * that do not parse links.
+ */
+public final class SlicePaginationUtil {
+
+    public static final String AFTER_PARAMETER = "after";
+
+    public static final String COUNT_PARAMETER = "count";
+
+    private static final String HEADER_HAS_NEXT = "X-Has-Next-Page";
+    private static final String HEADER_LINK_FORMAT = "<{0}>; rel=\"{1}\"";
+
+    /**
+     * How the total number of entities of a paginated listing is computed.
+     */
+    public enum CountMode {
+        /** Count the matching entities, as {@link tech.jhipster.web.util.PaginationUtil} expects. */
+        EXACT,
+        /** Do not count, only tell whether there is a next page. */
+        NONE,
+        /** Use the database statistics for unfiltered listings, count otherwise. */
+        ESTIMATED,
+    }
+
+    private SlicePaginationUtil() {}
+
+    /**
+     * Generate pagination headers for a Spring Data {@link Slice} object read with offset pagination.
+     *
+     * @param uriBuilder the URI builder of the current request.
+     * @param slice the slice.
+     * @param <T> the type of object.
+     * @return http header.
+     */
+    public static <T> HttpHeaders generateSliceHttpHeaders(UriComponentsBuilder uriBuilder, Slice<T> slice) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(HEADER_HAS_NEXT, Boolean.toString(slice.hasNext()));
+        List<String> links = new ArrayList<>();
+        if (slice.hasNext()) {
+            links.add(prepareLink(uriBuilder.replaceQueryParam("page", slice.getNumber() + 1), slice.getSize(), "next"));
+        }
+        if (slice.hasPrevious()) {
+            links.add(prepareLink(uriBuilder.replaceQueryParam("page", slice.getNumber() - 1), slice.getSize(), "prev"));
+        }
+        if (!links.isEmpty()) {
+            headers.add(HttpHeaders.LINK, String.join(",", links));
+        }
+        return headers;
+    }
+
+    /**
+     * Generate keyset pagination headers for a Spring Data {@link Slice} object.
+     * <p>
+     * The {@code after} parameter of the next link is the id of the last entity of the current slice.
+     *
+     * @param uriBuilder the URI builder of the current request.
+     * @param slice the slice.
+     * @param idOf the function returning the id of an entity of the slice.
+     * @param <T> the type of object.
+     * @return http header.
+     */
+    public static <T> HttpHeaders generateKeysetHttpHeaders(UriComponentsBuilder uriBuilder, Slice<T> slice, Function<T, Long> idOf) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(HEADER_HAS_NEXT, Boolean.toString(slice.hasNext()));
+        List<T> content = slice.getContent();
+        if (slice.hasNext() && !content.isEmpty()) {
+            uriBuilder
+                .replaceQueryParam(AFTER_PARAMETER, idOf.apply(content.get(content.size() - 1)))
+                .replaceQueryParam("page")
+                .replaceQueryParam("sort");
+            headers.add(HttpHeaders.LINK, prepareLink(uriBuilder, slice.getSize(), "next"));
+        }
+        return headers;
+    }
+
+    private static String prepareLink(UriComponentsBuilder uriBuilder, int size, String relType) {
+        String link = uriBuilder.replaceQueryParam("size", size).toUriString().replace(",", "%2C").replace(";", "%3B");
+        return MessageFormat.format(HEADER_LINK_FORMAT, link, relType);
+    }
+}
@@ -0,0 +1,269 @@
+package com.mycompany.myapp.web.sse;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.service.dto.BoardEventDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Pushes the {@link BoardEventDTO}s of each board to the clients watching it, as server-sent events.
+ * <p>
+ * Events are received once their transaction committed, queued per client and sent from the dedicated
+ * {@code boardEventExecutor}, so that neither the committing request nor the other clients wait for a slow client. A
+ * client whose queue is full, or which blocks a send for longer than {@code application.events.send-timeout}, is
+ * disconnected: it reconnects and reads what it missed from {@code GET /api/boards/:id/changes}. The events have no id,
+ * as a client catches up from the changes rather than from {@code Last-Event-ID}.
+ * <p>
+ * Only the events of this instance are pushed.
+ */
+@Component
+public class BoardEventBroadcaster {
+
+    private static final long HEARTBEAT_INTERVAL = 20_000;
+
+    private final Logger log = LoggerFactory.getLogger(BoardEventBroadcaster.class);
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    private final AtomicLong subscriberCount = new AtomicLong();
+
+    private final Executor executor;
+
+    private final int queueCapacity;
+
+    private final long timeout;
+
+    private final long sendTimeout;
+
+    private final Counter overflows;
+
+    private final Counter sendTimeouts;
+
+    public BoardEventBroadcaster(
+        @Qualifier("boardEventExecutor") Executor executor,
+        ApplicationProperties applicationProperties,
+        MeterRegistry meterRegistry
+    ) {
+        this.executor = executor;
+        this.queueCapacity = applicationProperties.getEvents().getQueueCapacity();
+        this.timeout = applicationProperties.getEvents().getTimeout().toMillis();
+        this.sendTimeout = applicationProperties.getEvents().getSendTimeout().toNanos();
+        Gauge
+            .builder("board.events.subscribers", subscriberCount, AtomicLong::get)
+            .description("Clients watching the events of a board")
+            .register(meterRegistry);
+        this.overflows = Counter
+            .builder("board.events.overflows")
+            .description("Clients disconnected because they did not keep up with the events of their board")
+            .register(meterRegistry);
+        this.sendTimeouts = Counter
+            .builder("board.events.send-timeouts")
+            .description("Clients disconnected because sending them an event blocked for too long")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Watch the events of a board.
+     *
+     * @param boardId the id of the board.
+     * @return the emitter of the events, completed on timeout, on overflow or when the client disconnects.
+     */
+    public SseEmitter subscribe(Long boardId) {
+        Subscriber subscriber = new Subscriber(boardId, newEmitter(timeout));
+        // atomic with the removal of the last subscriber of the board in close()
+        subscribers.compute(
+            boardId,
+            (id, boardSubscribers) -> {
+                Set<Subscriber> result = boardSubscribers != null ? boardSubscribers : ConcurrentHashMap.newKeySet();
+                result.add(subscriber);
+                return result;
+            }
+        );
+        subscriberCount.incrementAndGet();
+        SseEmitter emitter = subscriber.emitter;
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+        // sent at once, so that the response starts before the first event
+        subscriber.heartbeat();
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardEvent(BoardEventDTO event) {
+        Set<Subscriber> boardSubscribers = subscribers.get(event.getBoardId());
+        if (boardSubscribers != null) {
+            boardSubscribers.forEach(subscriber -> subscriber.offer(event));
+        }
+    }
+
+    /**
+     * Keep idle connections open through proxies, and find the clients which went away or block their sends.
+     */
+    @Scheduled(fixedDelay = HEARTBEAT_INTERVAL)
+    public void heartbeat() {
+        long now = System.nanoTime();
+        subscribers
+            .values()
+            .forEach(boardSubscribers ->
+                boardSubscribers.forEach(subscriber -> {
+                    subscriber.checkSendTimeout(now);
+                    subscriber.heartbeat();
+                })
+            );
+    }
+
+    SseEmitter newEmitter(long timeout) {
+        return new SseEmitter(timeout);
+    }
+
+    private final class Subscriber {
+
+        private final Long boardId;
+
+        private final SseEmitter emitter;
+
+        private final BlockingQueue<BoardEventDTO> queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        private final AtomicBoolean heartbeat = new AtomicBoolean();
+
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        /**
+         * The thread running {@link #send()}, only cleared while holding the monitor of this subscriber.
+         */
+        private volatile Thread sender;
+
+        /**
+         * When the event being sent started to be, {@code 0} when none is.
+         */
+        private volatile long sendStarted;
+
+        Subscriber(Long boardId, SseEmitter emitter) {
+            this.boardId = boardId;
+            this.emitter = emitter;
+        }
+
+        void offer(BoardEventDTO event) {
+            if (!queue.offer(event)) {
+                log.debug("Disconnecting a client of Board : {}, more than {} events behind", boardId, queueCapacity);
+                overflows.increment();
+                close();
+            }
+            drain();
+        }
+
+        void heartbeat() {
+            heartbeat.set(true);
+            drain();
+        }
+
+        /**
+         * Only one task sends to the emitter at a time; it completes the emitter once closed.
+         */
+        private void drain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this::send);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false);
+                    close();
+                }
+            }
+        }
+
+        private void send() {
+            sender = Thread.currentThread();
+            try {
+                if (heartbeat.getAndSet(false) && !closed.get()) {
+                    send(SseEmitter.event().comment(""));
+                }
+                BoardEventDTO event;
+                while (!closed.get() && (event = queue.poll()) != null) {
+                    send(SseEmitter.event().data(event, MediaType.APPLICATION_JSON));
+                }
+                if (closed.get()) {
+                    emitter.complete();
+                }
+            } catch (IOException e) {
+                // the client went away, or its send timed out
+                close();
+                emitter.completeWithError(e);
+            } catch (IllegalStateException e) {
+                // the emitter already completed
+                close();
+            } finally {
+                synchronized (this) {
+                    sender = null;
+                }
+                // clears the interruption of a timed out send, this thread goes back to the pool
+                Thread.interrupted();
+                draining.set(false);
+            }
+            if (!closed.get() && (heartbeat.get() || !queue.isEmpty())) {
+                drain();
+            }
+        }
+
+        private void send(SseEmitter.SseEventBuilder event) throws IOException {
+            sendStarted = System.nanoTime();
+            try {
+                emitter.send(event);
+            } finally {
+                sendStarted = 0;
+            }
+        }
+
+        /**
+         * Interrupt a send blocked for longer than the send timeout, which disconnects the client; the blocking writes
+         * of the servlet container fail once interrupted.
+         */
+        synchronized void checkSendTimeout(long now) {
+            long started = sendStarted;
+            if (sender != null && started != 0 && now - started > sendTimeout && !closed.get()) {
+                log.debug(
+                    "Disconnecting a client of Board : {}, blocked for {} ms",
+                    boardId,
+                    TimeUnit.NANOSECONDS.toMillis(now - started)
+                );
+                sendTimeouts.increment();
+                close();
+                sender.interrupt();
+            }
+        }
+
+        void close() {
+            if (closed.compareAndSet(false, true)) {
+                subscriberCount.decrementAndGet();
+                subscribers.computeIfPresent(boardId, (id, boardSubscribers) -> {
+                    boardSubscribers.remove(this);
+                    return boardSubscribers.isEmpty() ? null : boardSubscribers;
+                });
+                queue.clear();
+                drain();
+            }
+        }
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Server-sent event streams.
+ */
+package com.mycompany.myapp.web.sse;
@@ -1,6 +1,7 @@
 import { ILine } from 'app/entities/line/line.model';
 export interface IBoard {
   id: number;
+  version?: number | null;
   title?: string | null;
   line?: ILine | null;
 }
@@ -3,9 +3,11 @@ import { IBoard } from '../board/board.model';
 
 export interface ICard {
   id: number;
+  version?: number | null;
   title?: string | null;
   level?: number | null;
   desc?: string | null;
+  position?: number | null;
   line?: ILine | null;
   board?: IBoard | null;
 }
@@ -2,6 +2,7 @@ import { IBoard } from 'app/entities/board/board.model';
 
 export interface ILine {
   id: number;
+  version?: number | null;
   title?: string | null;
   board?: IBoard | null;
 }
@@ -13,4 +13,14 @@ public class AsyncSyncConfiguration {
     public Executor taskExecutor() {
         return new SyncTaskExecutor();
     }
+
+    @Bean(name = "boardEventExecutor")
+    public Executor boardEventExecutor() {
+        return new SyncTaskExecutor();
+    }
+
+    @Bean(name = "backgroundExecutor")
+    public Executor backgroundExecutor() {
+        return new SyncTaskExecutor();
+    }
 }
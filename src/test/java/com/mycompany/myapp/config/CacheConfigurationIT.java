@@ -0,0 +1,92 @@
+package com.mycompany.myapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.Authority;
+import com.mycompany.myapp.domain.Card;
+import com.mycompany.myapp.domain.Line;
+import java.time.Duration;
+import javax.cache.CacheManager;
+import org.ehcache.Cache;
+import org.ehcache.config.CacheRuntimeConfiguration;
+import org.ehcache.config.ResourceType;
+import org.ehcache.config.SizedResourcePool;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import tech.jhipster.config.JHipsterProperties;
+
+/**
+ * Integration tests for the per cache settings of {@link CacheConfiguration}.
+ */
+@IntegrationTest
+@TestPropertySource(
+    properties = {
+        "application.cache.persistence-directory=target/ehcache",
+        "application.cache.regions.[com.mycompany.myapp.domain.Board].off-heap-size=1MB",
+        "application.cache.regions.[com.mycompany.myapp.domain.Line].off-heap-size=1MB",
+        "application.cache.regions.[com.mycompany.myapp.domain.Line].disk-size=2MB",
+    }
+)
+class CacheConfigurationIT {
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private JHipsterProperties jHipsterProperties;
+
+    @Test
+    void cacheWithoutRegionSettingsUsesDefaults() {
+        CacheRuntimeConfiguration<Object, Object> configuration = runtimeConfiguration(Card.class.getName());
+
+        assertThat(configuration.getResourcePools().getPoolForResource(ResourceType.Core.HEAP).getSize())
+            .isEqualTo(jHipsterProperties.getCache().getEhcache().getMaxEntries());
+        assertThat(configuration.getExpiryPolicy().getExpiryForCreation("key", "value"))
+            .isEqualTo(Duration.ofSeconds(jHipsterProperties.getCache().getEhcache().getTimeToLiveSeconds()));
+        assertThat(configuration.getExpiryPolicy().getExpiryForAccess("key", () -> "value")).isNull();
+    }
+
+    @Test
+    void cacheWithRegionSettingsUsesThem() {
+        CacheRuntimeConfiguration<Object, Object> configuration = runtimeConfiguration(Authority.class.getName());
+
+        assertThat(configuration.getResourcePools().getPoolForResource(ResourceType.Core.HEAP).getSize()).isEqualTo(10);
+        assertThat(configuration.getExpiryPolicy().getExpiryForCreation("key", "value")).isEqualTo(Duration.ofHours(1));
+        assertThat(configuration.getExpiryPolicy().getExpiryForAccess("key", () -> "value")).isEqualTo(Duration.ofHours(1));
+    }
+
+    @Test
+    void cacheWithOffHeapAndDiskSizesHasTheseTiers() {
+        CacheRuntimeConfiguration<Object, Object> configuration = runtimeConfiguration(Line.class.getName());
+
+        SizedResourcePool offHeap = configuration.getResourcePools().getPoolForResource(ResourceType.Core.OFFHEAP);
+        assertThat(offHeap.getSize()).isEqualTo(1024 * 1024);
+        SizedResourcePool disk = configuration.getResourcePools().getPoolForResource(ResourceType.Core.DISK);
+        assertThat(disk.getSize()).isEqualTo(2 * 1024 * 1024);
+        assertThat(disk.isPersistent()).isFalse();
+        assertThat(runtimeConfiguration(Card.class.getName()).getResourcePools().getResourceTypeSet()).containsOnly(ResourceType.Core.HEAP);
+    }
+
+    @Test
+    void entitiesAreSerializedToTheLowerTiers() {
+        javax.cache.Cache<Object, Object> cache = cacheManager.getCache(Line.class.getName());
+        Line line = new Line().id(Long.MAX_VALUE).title("cached line");
+        try {
+            cache.put(line.getId(), line);
+
+            // Ehcache writes to the lowest tier, so reading the line back deserializes a copy
+            Object cached = cache.get(line.getId());
+            assertThat(cached).isNotSameAs(line).isEqualTo(line);
+            assertThat(((Line) cached).getTitle()).isEqualTo("cached line");
+        } finally {
+            cache.remove(line.getId());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private CacheRuntimeConfiguration<Object, Object> runtimeConfiguration(String cacheName) {
+        return cacheManager.getCache(cacheName).unwrap(Cache.class).getRuntimeConfiguration();
+    }
+}
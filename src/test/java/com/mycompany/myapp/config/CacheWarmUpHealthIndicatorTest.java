@@ -0,0 +1,93 @@
+package com.mycompany.myapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.mycompany.myapp.service.CacheWarmUpService;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Status;
+
+class CacheWarmUpHealthIndicatorTest {
+
+    private ApplicationProperties applicationProperties;
+
+    private CacheWarmUpService cacheWarmUpService;
+
+    @BeforeEach
+    public void setup() {
+        applicationProperties = new ApplicationProperties();
+        applicationProperties.getWarmUp().setEnabled(true);
+        applicationProperties.getWarmUp().setBoards(5);
+        applicationProperties.getWarmUp().setUsers(7);
+        cacheWarmUpService = mock(CacheWarmUpService.class);
+    }
+
+    @Test
+    void testUpWhenDisabled() {
+        applicationProperties.getWarmUp().setEnabled(false);
+        CacheWarmUpHealthIndicator healthIndicator = createHealthIndicator(Runnable::run);
+
+        healthIndicator.onApplicationReady();
+
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.UP);
+        verifyNoInteractions(cacheWarmUpService);
+    }
+
+    @Test
+    void testOutOfServiceUntilWarmedUp() {
+        CacheWarmUpHealthIndicator healthIndicator = createHealthIndicator(Runnable::run);
+        when(cacheWarmUpService.warmUpBoards(5)).thenReturn(5);
+
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+
+        healthIndicator.onApplicationReady();
+
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.UP);
+        verify(cacheWarmUpService).warmUpBoards(5);
+        verify(cacheWarmUpService).warmUpUsers(7);
+    }
+
+    @Test
+    void testUpWhenWarmUpFails() {
+        CacheWarmUpHealthIndicator healthIndicator = createHealthIndicator(Runnable::run);
+        when(cacheWarmUpService.warmUpBoards(5)).thenThrow(new IllegalStateException("database unavailable"));
+
+        healthIndicator.onApplicationReady();
+
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    void testUpWhenWarmUpIsRejected() {
+        CacheWarmUpHealthIndicator healthIndicator = createHealthIndicator(task -> {
+            throw new RejectedExecutionException("executor full");
+        });
+
+        healthIndicator.onApplicationReady();
+
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.UP);
+        verifyNoInteractions(cacheWarmUpService);
+    }
+
+    @Test
+    void testUpAfterTimeout() {
+        applicationProperties.getWarmUp().setTimeout(Duration.ZERO);
+        CacheWarmUpHealthIndicator healthIndicator = createHealthIndicator(task -> {});
+
+        healthIndicator.onApplicationReady();
+
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.UP);
+        assertThat(healthIndicator.health().getDetails()).containsEntry("timedOut", true);
+    }
+
+    private CacheWarmUpHealthIndicator createHealthIndicator(Executor executor) {
+        return new CacheWarmUpHealthIndicator(applicationProperties, cacheWarmUpService, executor);
+    }
+}
@@ -0,0 +1,66 @@
+package com.mycompany.myapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ConnectionPermitDataSourceTest {
+
+    private DataSource targetDataSource;
+
+    private Connection targetConnection;
+
+    private ConnectionPermitDataSource dataSource;
+
+    @BeforeEach
+    public void setup() throws SQLException {
+        targetDataSource = mock(DataSource.class);
+        targetConnection = mock(Connection.class);
+        when(targetDataSource.getConnection()).thenReturn(targetConnection);
+        dataSource = new ConnectionPermitDataSource(targetDataSource, 2, 10);
+    }
+
+    @Test
+    void testWaitsForPermit() throws SQLException {
+        dataSource.getConnection();
+        Connection connection = dataSource.getConnection();
+        assertThat(dataSource.availablePermits()).isZero();
+
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+        verify(targetDataSource, times(2)).getConnection();
+
+        connection.close();
+        assertThat(dataSource.availablePermits()).isEqualTo(1);
+        assertThat(dataSource.getConnection()).isNotNull();
+    }
+
+    @Test
+    void testReleasesPermitOnce() throws SQLException {
+        Connection connection = dataSource.getConnection();
+
+        connection.close();
+        connection.close();
+
+        assertThat(dataSource.availablePermits()).isEqualTo(2);
+        verify(targetConnection, times(2)).close();
+    }
+
+    @Test
+    void testReleasesPermitWhenTargetFails() throws SQLException {
+        when(targetDataSource.getConnection()).thenThrow(new SQLException("down"));
+
+        assertThatThrownBy(dataSource::getConnection).hasMessage("down");
+
+        assertThat(dataSource.availablePermits()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,97 @@
+package com.mycompany.myapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.mycompany.myapp.config.ApplicationProperties.Async.RejectionPolicy;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+
+class MeteredThreadPoolTaskExecutorTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private MeteredThreadPoolTaskExecutor executor;
+
+    @AfterEach
+    public void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    void testPublishesPoolAndQueue() throws InterruptedException {
+        createFullExecutor(RejectionPolicy.DISCARD);
+
+        assertThat(meterRegistry.get("executor.active").tag("name", "test").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("executor.queued").tag("name", "test").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("executor.pool.max").tag("name", "test").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void testDiscardCountsRejectedTask() throws InterruptedException {
+        createFullExecutor(RejectionPolicy.DISCARD);
+
+        executor.execute(() -> {});
+
+        assertThat(rejected(RejectionPolicy.DISCARD)).isEqualTo(1);
+        assertThat(meterRegistry.get("executor.queued").tag("name", "test").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void testCallerRunsRejectedTask() throws InterruptedException {
+        createFullExecutor(RejectionPolicy.CALLER_RUNS);
+
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        executor.execute(() -> thread.set(Thread.currentThread()));
+
+        assertThat(thread.get()).isEqualTo(Thread.currentThread());
+        assertThat(rejected(RejectionPolicy.CALLER_RUNS)).isEqualTo(1);
+    }
+
+    @Test
+    void testAbortRejectsTask() throws InterruptedException {
+        createFullExecutor(RejectionPolicy.ABORT);
+
+        assertThatThrownBy(() -> executor.execute(() -> {})).isInstanceOf(TaskRejectedException.class);
+        assertThat(rejected(RejectionPolicy.ABORT)).isEqualTo(1);
+    }
+
+    /**
+     * An executor with its single thread busy and its single queue slot taken.
+     */
+    private void createFullExecutor(RejectionPolicy rejectionPolicy) throws InterruptedException {
+        executor = new MeteredThreadPoolTaskExecutor(meterRegistry, "test", rejectionPolicy);
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.initialize();
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            awaitRelease();
+        });
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+        executor.execute(this::awaitRelease);
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private double rejected(RejectionPolicy rejectionPolicy) {
+        return meterRegistry.get("executor.rejected").tag("name", "test").tag("policy", rejectionPolicy.name()).counter().count();
+    }
+}
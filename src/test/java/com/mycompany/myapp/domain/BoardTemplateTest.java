@@ -0,0 +1,23 @@
+package com.mycompany.myapp.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.web.rest.TestUtil;
+import org.junit.jupiter.api.Test;
+
+class BoardTemplateTest {
+
+    @Test
+    void equalsVerifier() throws Exception {
+        TestUtil.equalsVerifier(BoardTemplate.class);
+        BoardTemplate boardTemplate1 = new BoardTemplate();
+        boardTemplate1.setId(1L);
+        BoardTemplate boardTemplate2 = new BoardTemplate();
+        boardTemplate2.setId(boardTemplate1.getId());
+        assertThat(boardTemplate1).isEqualTo(boardTemplate2);
+        boardTemplate2.setId(2L);
+        assertThat(boardTemplate1).isNotEqualTo(boardTemplate2);
+        boardTemplate1.setId(null);
+        assertThat(boardTemplate1).isNotEqualTo(boardTemplate2);
+    }
+}
@@ -0,0 +1,84 @@
+package com.mycompany.myapp.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.Line;
+import com.mycompany.myapp.repository.UserRepository;
+import com.mycompany.myapp.security.AuthoritiesConstants;
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Integration tests for the cache meters and the {@link CacheStatisticsEndpoint}.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser(authorities = AuthoritiesConstants.ADMIN)
+class CacheStatisticsEndpointIT {
+
+    private static final String CACHE = UserRepository.USERS_BY_LOGIN_CACHE;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private MockMvc restMockMvc;
+
+    private Cache<Object, Object> cache;
+
+    @BeforeEach
+    public void setup() {
+        cache = cacheManager.getCache(CACHE);
+        cache.clear();
+    }
+
+    @Test
+    void cacheOperationsArePublishedAsMeters() {
+        double hits = gets("hit");
+        double misses = gets("miss");
+        double puts = meterRegistry.get("cache.puts").tag("cache", CACHE).functionCounter().count();
+        double removals = meterRegistry.get("cache.removals").tag("cache", CACHE).gauge().value();
+
+        cache.put("cache-statistics-endpoint", "value");
+        cache.get("cache-statistics-endpoint");
+        cache.get("cache-statistics-endpoint-missing");
+        cache.remove("cache-statistics-endpoint");
+
+        assertThat(gets("hit")).isEqualTo(hits + 1);
+        assertThat(gets("miss")).isEqualTo(misses + 1);
+        assertThat(meterRegistry.get("cache.puts").tag("cache", CACHE).functionCounter().count()).isEqualTo(puts + 1);
+        assertThat(meterRegistry.get("cache.removals").tag("cache", CACHE).gauge().value()).isEqualTo(removals + 1);
+    }
+
+    @Test
+    void listCacheStatistics() throws Exception {
+        cache.put("cache-statistics-endpoint", "value");
+        cache.get("cache-statistics-endpoint");
+
+        restMockMvc
+            .perform(get("/management/cachestats"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[?(@.name == '%s')].hits", CACHE).isNotEmpty())
+            .andExpect(jsonPath("$.[?(@.name == '%s')].puts", CACHE).isNotEmpty())
+            .andExpect(jsonPath("$.[?(@.name == '%s')].hitRatio", CACHE).isNotEmpty())
+            .andExpect(jsonPath("$.[?(@.name == '%s')].evictions", Line.class.getName()).isNotEmpty());
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", CACHE).tag("result", result).functionCounter().count();
+    }
+}
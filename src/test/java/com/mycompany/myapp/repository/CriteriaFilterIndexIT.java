@@ -0,0 +1,89 @@
+package com.mycompany.myapp.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.IntegrationTest;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests checking that the queries issued by the criteria filters and foreign key lookups are served by
+ * the indexes of the {@code 20261018180000_added_criteria_filter_indexes} changelog.
+ */
+@IntegrationTest
+@Transactional
+class CriteriaFilterIndexIT {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private boolean postgresql;
+
+    @BeforeEach
+    public void init() {
+        postgresql =
+            jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())
+            );
+        if (postgresql) {
+            // the test tables are nearly empty, so make the planner show the index it would use on real data
+            jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+        }
+    }
+
+    @Test
+    void lineByBoardUsesIndex() {
+        // H2 already backs each foreign key with an index of its own, PostgreSQL does not
+        assertThat(explain("select * from line where board_id = 1").toLowerCase()).containsAnyOf("idx_line__board_id", "fk_line__board_id");
+    }
+
+    @Test
+    void cardByLineUsesIndex() {
+        assertThat(explain("select * from card where line_id = 1").toLowerCase()).containsAnyOf("idx_card__line_id", "fk_card__line_id");
+    }
+
+    @Test
+    void cardByLevelUsesIndex() {
+        assertThat(explain("select * from card where level = 1")).containsIgnoringCase("idx_card__level");
+    }
+
+    @Test
+    void cardByTitleUsesIndex() {
+        assertThat(explain("select * from card where title = 'title'")).containsIgnoringCase("idx_card__title");
+    }
+
+    @Test
+    void lineByTitleUsesIndex() {
+        assertThat(explain("select * from line where title = 'title'")).containsIgnoringCase("idx_line__title");
+    }
+
+    @Test
+    void boardByTitleUsesIndex() {
+        assertThat(explain("select * from board where title = 'title'")).containsIgnoringCase("idx_board__title");
+    }
+
+    @Test
+    void cardByTitleContainsUsesTrigramIndexOnPostgresql() {
+        String plan = explain("select * from card where upper(title) like '%TITLE%'");
+        if (postgresql) {
+            assertThat(plan).containsIgnoringCase("idx_card__title_trgm");
+        }
+    }
+
+    @Test
+    void cardByDescContainsUsesTrigramIndexOnPostgresql() {
+        String plan = explain("select * from card where upper(jhi_desc) like '%DESC%'");
+        if (postgresql) {
+            assertThat(plan).containsIgnoringCase("idx_card__desc_trgm");
+        }
+    }
+
+    private String explain(String query) {
+        return jdbcTemplate.queryForList("EXPLAIN " + query, String.class).stream().collect(Collectors.joining("\n"));
+    }
+}
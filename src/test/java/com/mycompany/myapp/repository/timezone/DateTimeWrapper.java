@@ -1,5 +1,6 @@
 package com.mycompany.myapp.repository.timezone;
 
+import com.mycompany.myapp.config.Constants;
 import java.io.Serializable;
 import java.time.*;
 import java.util.Objects;
@@ -13,7 +14,7 @@ public class DateTimeWrapper implements Serializable {
 
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
-    @SequenceGenerator(name = "sequenceGenerator")
+    @SequenceGenerator(name = "sequenceGenerator", allocationSize = Constants.ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(name = "instant")
@@ -0,0 +1,52 @@
+package com.mycompany.myapp.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * Test class for the {@link AuthorityRegistry} utility class.
+ */
+class AuthorityRegistryTest {
+
+    @Test
+    void testKnownAuthoritiesAreShared() {
+        assertThat(AuthorityRegistry.get(AuthoritiesConstants.ADMIN))
+            .isSameAs(AuthorityRegistry.get(AuthoritiesConstants.ADMIN))
+            .isEqualTo(new SimpleGrantedAuthority(AuthoritiesConstants.ADMIN));
+        assertThat(AuthorityRegistry.get(AuthoritiesConstants.USER)).isSameAs(AuthorityRegistry.get(AuthoritiesConstants.USER));
+    }
+
+    @Test
+    void testOtherAuthoritiesAreSharedAfterFirstUse() {
+        GrantedAuthority authority = AuthorityRegistry.get("ROLE_AUTHORITY_REGISTRY_TEST");
+
+        assertThat(authority.getAuthority()).isEqualTo("ROLE_AUTHORITY_REGISTRY_TEST");
+        assertThat(AuthorityRegistry.get("ROLE_AUTHORITY_REGISTRY_TEST")).isSameAs(authority);
+    }
+
+    @Test
+    void testFromCommaSeparated() {
+        List<GrantedAuthority> authorities = AuthorityRegistry.fromCommaSeparated(
+            AuthoritiesConstants.ADMIN + ",," + AuthoritiesConstants.USER + ", "
+        );
+
+        assertThat(authorities)
+            .extracting(GrantedAuthority::getAuthority)
+            .containsExactly(AuthoritiesConstants.ADMIN, AuthoritiesConstants.USER);
+        assertThat(authorities.get(0)).isSameAs(AuthorityRegistry.get(AuthoritiesConstants.ADMIN));
+        assertThat(AuthorityRegistry.fromCommaSeparated(AuthoritiesConstants.ADMIN + ",," + AuthoritiesConstants.USER + ", "))
+            .isSameAs(authorities);
+        assertThatThrownBy(() -> authorities.add(AuthorityRegistry.get(AuthoritiesConstants.ANONYMOUS)))
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void testFromCommaSeparatedEmpty() {
+        assertThat(AuthorityRegistry.fromCommaSeparated("")).isEmpty();
+    }
+}
@@ -0,0 +1,113 @@
+package com.mycompany.myapp.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.management.SecurityMetersService;
+import com.mycompany.myapp.security.AuthoritiesConstants;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import tech.jhipster.config.JHipsterProperties;
+
+/**
+ * Allocation profile of the construction of the authentication of a verified token.
+ */
+class TokenAuthenticationAllocationTest {
+
+    private static final int ITERATIONS = 10_000;
+
+    private static final String TOKEN = "token";
+
+    private com.sun.management.ThreadMXBean threadMXBean;
+
+    private TokenProvider tokenProvider;
+
+    private Claims claims;
+
+    @BeforeEach
+    public void setup() {
+        assumeThat(ManagementFactory.getThreadMXBean()).isInstanceOf(com.sun.management.ThreadMXBean.class);
+        threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeThat(threadMXBean.isThreadAllocatedMemorySupported()).isTrue();
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+        JHipsterProperties jHipsterProperties = new JHipsterProperties();
+        jHipsterProperties
+            .getSecurity()
+            .getAuthentication()
+            .getJwt()
+            .setBase64Secret("fd54a45s65fds737b9aafcb3412e07ed99b267f33413274720ddbb7f6c5e64e9f14075f2d7ed041592f0b7657baf8");
+        SecurityMetersService securityMetersService = new SecurityMetersService(new SimpleMeterRegistry());
+        tokenProvider =
+            new TokenProvider(
+                jHipsterProperties,
+                securityMetersService,
+                new TokenAuthenticationCache(new ApplicationProperties(), securityMetersService)
+            );
+        claims = Jwts.claims().setSubject("user");
+        claims.put("auth", AuthoritiesConstants.ADMIN + "," + AuthoritiesConstants.USER);
+    }
+
+    @Test
+    void testAuthenticationUsesSharedAuthorities() {
+        Authentication first = tokenProvider.toAuthentication(claims, TOKEN);
+        Authentication second = tokenProvider.toAuthentication(claims, TOKEN);
+
+        assertThat(first.getName()).isEqualTo("user");
+        assertThat(first.getCredentials()).isEqualTo(TOKEN);
+        assertThat(first.getAuthorities())
+            .extracting(GrantedAuthority::getAuthority)
+            .containsExactly(AuthoritiesConstants.ADMIN, AuthoritiesConstants.USER);
+        assertThat(first.getAuthorities().iterator().next()).isSameAs(second.getAuthorities().iterator().next());
+    }
+
+    @Test
+    void testAuthenticationAllocatesLessThanPerRequestAuthorities() {
+        long perRequestAuthorities = bytesPerCall(this::perRequestAuthentication);
+        long sharedAuthorities = bytesPerCall(c -> tokenProvider.toAuthentication(c, TOKEN));
+
+        assertThat(sharedAuthorities).as("bytes per request, %d before", perRequestAuthorities).isLessThan(perRequestAuthorities / 2);
+    }
+
+    /**
+     * The construction used before the authorities were shared: new authorities, list and {@link User} per request.
+     */
+    private Authentication perRequestAuthentication(Claims claims) {
+        Collection<? extends GrantedAuthority> authorities = Arrays
+            .stream(claims.get("auth").toString().split(","))
+            .filter(auth -> !auth.trim().isEmpty())
+            .map(SimpleGrantedAuthority::new)
+            .collect(Collectors.toList());
+        User principal = new User(claims.getSubject(), "", authorities);
+        return new UsernamePasswordAuthenticationToken(principal, TOKEN, authorities);
+    }
+
+    private long bytesPerCall(Function<Claims, Authentication> construction) {
+        long threadId = Thread.currentThread().getId();
+        int authorities = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            authorities += construction.apply(claims).getAuthorities().size();
+        }
+        long start = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++) {
+            authorities += construction.apply(claims).getAuthorities().size();
+        }
+        long bytes = threadMXBean.getThreadAllocatedBytes(threadId) - start;
+        assertThat(authorities).isEqualTo(2 * 2 * ITERATIONS);
+        return bytes / ITERATIONS;
+    }
+}
@@ -0,0 +1,198 @@
+package com.mycompany.myapp.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.management.SecurityMetersService;
+import com.mycompany.myapp.security.AuthoritiesConstants;
+import com.mycompany.myapp.security.jwt.TokenValidationResult.FailureCause;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.security.Key;
+import java.util.Collections;
+import java.util.Date;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+import tech.jhipster.config.JHipsterProperties;
+
+class TokenAuthenticationCacheTest {
+
+    private static final long ONE_MINUTE = 60000;
+    private static final String TOKEN_CACHE_METER_EXPECTED_NAME = "security.authentication.token-cache";
+
+    private final String base64Secret = "fd54a45s65fds737b9aafcb3412e07ed99b267f33413274720ddbb7f6c5e64e9f14075f2d7ed041592f0b7657baf8";
+
+    private MeterRegistry meterRegistry;
+
+    private SecurityMetersService securityMetersService;
+
+    private ApplicationProperties applicationProperties;
+
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        securityMetersService = new SecurityMetersService(meterRegistry);
+        applicationProperties = new ApplicationProperties();
+    }
+
+    @Test
+    void testSecondValidationIsServedFromCache() {
+        TokenProvider tokenProvider = createTokenProvider();
+        String token = tokenProvider.createToken(createAuthentication(), false);
+
+        Authentication first = tokenProvider.validate(token).getAuthentication();
+        Authentication second = tokenProvider.validate(token).getAuthentication();
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getCredentials()).isEqualTo(token);
+        assertThat(second.getName()).isEqualTo("test-user");
+        assertThat(second.getAuthorities()).extracting("authority").containsExactly(AuthoritiesConstants.USER);
+        assertThat(meterRegistry.get(TOKEN_CACHE_METER_EXPECTED_NAME).tag("result", "miss").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(TOKEN_CACHE_METER_EXPECTED_NAME).tag("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(TOKEN_CACHE_METER_EXPECTED_NAME + ".size").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void testInvalidTokenIsNotCached() {
+        TokenProvider tokenProvider = createTokenProvider();
+        String token = tokenProvider.createToken(createAuthentication(), false);
+
+        assertThat(tokenProvider.validate("X" + token).getFailureCause()).isEqualTo(FailureCause.MALFORMED);
+        assertThat(tokenProvider.validate("X" + token).getFailureCause()).isEqualTo(FailureCause.MALFORMED);
+
+        assertThat(meterRegistry.get(TOKEN_CACHE_METER_EXPECTED_NAME).tag("result", "miss").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("security.authentication.invalid-tokens").tag("cause", "malformed").counter().count())
+            .isEqualTo(2);
+    }
+
+    @Test
+    void testExpiredEntryIsEvicted() {
+        TokenAuthenticationCache cache = new TokenAuthenticationCache(applicationProperties, securityMetersService);
+        cache.put("token", createResult(new Date(System.currentTimeMillis() + ONE_MINUTE)));
+        assertThat(cache.get("token")).isNotNull();
+
+        cache.put("expired", createResult(new Date(System.currentTimeMillis() - ONE_MINUTE)));
+        assertThat(cache.get("expired")).isNull();
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void testTokenWithoutExpirationIsNotCached() {
+        TokenAuthenticationCache cache = new TokenAuthenticationCache(applicationProperties, securityMetersService);
+        cache.put("token", createResult(null));
+
+        assertThat(cache.get("token")).isNull();
+    }
+
+    @Test
+    void testCacheIsBounded() {
+        applicationProperties.getTokenCache().setMaxEntries(2);
+        TokenAuthenticationCache cache = new TokenAuthenticationCache(applicationProperties, securityMetersService);
+        Date expiration = new Date(System.currentTimeMillis() + ONE_MINUTE);
+
+        cache.put("token1", createResult(expiration));
+        cache.put("token2", createResult(expiration));
+        cache.put("token3", createResult(expiration));
+
+        assertThat(cache.size()).isLessThanOrEqualTo(2);
+        assertThat(cache.get("token3")).isNotNull();
+    }
+
+    @Test
+    void testLeastRecentlyUsedEntryIsEvicted() {
+        applicationProperties.getTokenCache().setMaxEntries(2);
+        TokenAuthenticationCache cache = new TokenAuthenticationCache(applicationProperties, securityMetersService);
+        Date expiration = new Date(System.currentTimeMillis() + ONE_MINUTE);
+
+        cache.put("token1", createResult(expiration));
+        cache.put("token2", createResult(expiration));
+        assertThat(cache.get("token1")).isNotNull();
+        cache.put("token3", createResult(expiration));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("token1")).isNotNull();
+        assertThat(cache.get("token2")).isNull();
+        assertThat(cache.get("token3")).isNotNull();
+    }
+
+    @Test
+    void testEachHitGetsItsOwnAuthentication() {
+        TokenAuthenticationCache cache = new TokenAuthenticationCache(applicationProperties, securityMetersService);
+        cache.put("token", createResult(new Date(System.currentTimeMillis() + ONE_MINUTE)));
+
+        Authentication first = cache.get("token").getAuthentication();
+        first.setAuthenticated(false);
+        ((UsernamePasswordAuthenticationToken) first).setDetails("details");
+        Authentication second = cache.get("token").getAuthentication();
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.isAuthenticated()).isTrue();
+        assertThat(second.getDetails()).isNull();
+        assertThat(second.getCredentials()).isEqualTo("token");
+    }
+
+    @Test
+    void testCacheCanBeDisabled() {
+        applicationProperties.getTokenCache().setMaxEntries(0);
+        TokenProvider tokenProvider = createTokenProvider();
+        String token = tokenProvider.createToken(createAuthentication(), false);
+
+        assertThat(tokenProvider.validate(token).isValid()).isTrue();
+        assertThat(tokenProvider.validate(token).isValid()).isTrue();
+
+        assertThat(meterRegistry.get(TOKEN_CACHE_METER_EXPECTED_NAME).tag("result", "hit").counter().count()).isZero();
+        assertThat(meterRegistry.get(TOKEN_CACHE_METER_EXPECTED_NAME + ".size").gauge().value()).isZero();
+    }
+
+    @Test
+    void testTokenSignedWithOtherKeyIsNotServedFromCache() {
+        TokenProvider tokenProvider = createTokenProvider();
+        String token = tokenProvider.createToken(createAuthentication(), false);
+        tokenProvider.validate(token);
+
+        Key otherKey = Keys.hmacShaKeyFor(
+            Decoders.BASE64.decode("Xfd54a45s65fds737b9aafcb3412e07ed99b267f33413274720ddbb7f6c5e64e9f14075f2d7ed041592f0b7657baf8")
+        );
+        String forged = Jwts
+            .builder()
+            .setSubject("test-user")
+            .claim("auth", AuthoritiesConstants.ADMIN)
+            .signWith(otherKey, SignatureAlgorithm.HS512)
+            .setExpiration(new Date(System.currentTimeMillis() + ONE_MINUTE))
+            .compact();
+
+        assertThat(tokenProvider.validate(forged).getFailureCause()).isEqualTo(FailureCause.INVALID_SIGNATURE);
+    }
+
+    private TokenProvider createTokenProvider() {
+        JHipsterProperties jHipsterProperties = new JHipsterProperties();
+        jHipsterProperties.getSecurity().getAuthentication().getJwt().setBase64Secret(base64Secret);
+        TokenProvider tokenProvider = new TokenProvider(
+            jHipsterProperties,
+            securityMetersService,
+            new TokenAuthenticationCache(applicationProperties, securityMetersService)
+        );
+        ReflectionTestUtils.setField(tokenProvider, "tokenValidityInMilliseconds", ONE_MINUTE);
+        return tokenProvider;
+    }
+
+    private TokenValidationResult createResult(Date expiration) {
+        return TokenValidationResult.valid(Jwts.claims().setExpiration(expiration), createAuthentication());
+    }
+
+    private Authentication createAuthentication() {
+        return new UsernamePasswordAuthenticationToken(
+            "test-user",
+            "test-password",
+            Collections.singletonList(new SimpleGrantedAuthority(AuthoritiesConstants.USER))
+        );
+    }
+}
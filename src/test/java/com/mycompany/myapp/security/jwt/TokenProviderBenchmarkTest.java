@@ -0,0 +1,98 @@
+package com.mycompany.myapp.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.management.SecurityMetersService;
+import com.mycompany.myapp.security.AuthoritiesConstants;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Arrays;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import tech.jhipster.config.JHipsterProperties;
+
+/**
+ * Compares the per request cost of authenticating a JWT token: the former validate then parse again path, a single
+ * parse, and a token cache hit.
+ * <p>
+ * Run with {@code ./mvnw test -Dtest=TokenProviderBenchmarkTest -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class TokenProviderBenchmarkTest {
+
+    private static final int WARMUP_ITERATIONS = 20_000;
+
+    private static final int MEASURED_ITERATIONS = 100_000;
+
+    private final Logger log = LoggerFactory.getLogger(TokenProviderBenchmarkTest.class);
+
+    private TokenProvider uncachedTokenProvider;
+
+    private TokenProvider cachedTokenProvider;
+
+    private String token;
+
+    @BeforeEach
+    public void setup() {
+        uncachedTokenProvider = createTokenProvider(0);
+        cachedTokenProvider = createTokenProvider(10000);
+        token =
+            uncachedTokenProvider.createToken(
+                new UsernamePasswordAuthenticationToken(
+                    "benchmark-user",
+                    "",
+                    Arrays.asList(
+                        new SimpleGrantedAuthority(AuthoritiesConstants.USER),
+                        new SimpleGrantedAuthority(AuthoritiesConstants.ADMIN)
+                    )
+                ),
+                false
+            );
+    }
+
+    @Test
+    void benchmarkAuthentication() {
+        double twoParses = measure(t -> uncachedTokenProvider.validateToken(t) && uncachedTokenProvider.getAuthentication(t) != null);
+        double singleParse = measure(t -> uncachedTokenProvider.validate(t).isValid());
+        double cacheHit = measure(t -> cachedTokenProvider.validate(t).isValid());
+
+        log.info("validateToken + getAuthentication: {} ns/request", Math.round(twoParses));
+        log.info("validate, not cached: {} ns/request", Math.round(singleParse));
+        log.info("validate, cached: {} ns/request", Math.round(cacheHit));
+        assertThat(cacheHit).isLessThan(singleParse);
+    }
+
+    private double measure(Predicate<String> authentication) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            assertThat(authentication.test(token)).isTrue();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            assertThat(authentication.test(token)).isTrue();
+        }
+        return (System.nanoTime() - start) / (double) MEASURED_ITERATIONS;
+    }
+
+    private TokenProvider createTokenProvider(int cacheMaxEntries) {
+        JHipsterProperties jHipsterProperties = new JHipsterProperties();
+        jHipsterProperties
+            .getSecurity()
+            .getAuthentication()
+            .getJwt()
+            .setBase64Secret("fd54a45s65fds737b9aafcb3412e07ed99b267f33413274720ddbb7f6c5e64e9f14075f2d7ed041592f0b7657baf8");
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getTokenCache().setMaxEntries(cacheMaxEntries);
+        SecurityMetersService securityMetersService = new SecurityMetersService(new SimpleMeterRegistry());
+        return new TokenProvider(
+            jHipsterProperties,
+            securityMetersService,
+            new TokenAuthenticationCache(applicationProperties, securityMetersService)
+        );
+    }
+}
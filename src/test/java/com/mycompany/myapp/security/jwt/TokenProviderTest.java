@@ -2,6 +2,7 @@ package com.mycompany.myapp.security.jwt;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.mycompany.myapp.config.ApplicationProperties;
 import com.mycompany.myapp.management.SecurityMetersService;
 import com.mycompany.myapp.security.AuthoritiesConstants;
 import io.jsonwebtoken.Jwts;
@@ -36,7 +37,11 @@ class TokenProviderTest {
 
         SecurityMetersService securityMetersService = new SecurityMetersService(new SimpleMeterRegistry());
 
-        tokenProvider = new TokenProvider(jHipsterProperties, securityMetersService);
+        tokenProvider = new TokenProvider(
+            jHipsterProperties,
+            securityMetersService,
+            new TokenAuthenticationCache(new ApplicationProperties(), securityMetersService)
+        );
         key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(base64Secret));
 
         ReflectionTestUtils.setField(tokenProvider, "key", key);
@@ -88,6 +93,36 @@ class TokenProviderTest {
         assertThat(isTokenValid).isFalse();
     }
 
+    @Test
+    void testValidateReturnsClaimsAndAuthentication() {
+        String token = tokenProvider.createToken(createAuthentication(), false);
+
+        TokenValidationResult result = tokenProvider.validate(token);
+
+        assertThat(result.isValid()).isTrue();
+        assertThat(result.getFailureCause()).isNull();
+        assertThat(result.getClaims().getSubject()).isEqualTo("anonymous");
+        assertThat(result.getAuthentication().getName()).isEqualTo("anonymous");
+        assertThat(result.getAuthentication().getAuthorities()).extracting("authority").containsExactly(AuthoritiesConstants.ANONYMOUS);
+    }
+
+    @Test
+    void testValidateReturnsFailureCause() {
+        assertThat(tokenProvider.validate(createTokenWithDifferentSignature()).getFailureCause())
+            .isEqualTo(TokenValidationResult.FailureCause.INVALID_SIGNATURE);
+        assertThat(tokenProvider.validate(createUnsupportedToken()).getFailureCause())
+            .isEqualTo(TokenValidationResult.FailureCause.UNSUPPORTED);
+        assertThat(tokenProvider.validate("").getFailureCause()).isEqualTo(TokenValidationResult.FailureCause.INVALID);
+
+        ReflectionTestUtils.setField(tokenProvider, "tokenValidityInMilliseconds", -ONE_MINUTE);
+        TokenValidationResult result = tokenProvider.validate(tokenProvider.createToken(createAuthentication(), false));
+
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.getFailureCause()).isEqualTo(TokenValidationResult.FailureCause.EXPIRED);
+        assertThat(result.getClaims()).isNull();
+        assertThat(result.getAuthentication()).isNull();
+    }
+
     @Test
     void testKeyIsSetFromSecretWhenSecretIsNotEmpty() {
         final String secret = "NwskoUmKHZtzGRKJKVjsJF7BtQMMxNWi";
@@ -96,7 +131,11 @@ class TokenProviderTest {
 
         SecurityMetersService securityMetersService = new SecurityMetersService(new SimpleMeterRegistry());
 
-        TokenProvider tokenProvider = new TokenProvider(jHipsterProperties, securityMetersService);
+        TokenProvider tokenProvider = new TokenProvider(
+            jHipsterProperties,
+            securityMetersService,
+            new TokenAuthenticationCache(new ApplicationProperties(), securityMetersService)
+        );
 
         Key key = (Key) ReflectionTestUtils.getField(tokenProvider, "key");
         assertThat(key).isNotNull().isEqualTo(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)));
@@ -110,7 +149,11 @@ class TokenProviderTest {
 
         SecurityMetersService securityMetersService = new SecurityMetersService(new SimpleMeterRegistry());
 
-        TokenProvider tokenProvider = new TokenProvider(jHipsterProperties, securityMetersService);
+        TokenProvider tokenProvider = new TokenProvider(
+            jHipsterProperties,
+            securityMetersService,
+            new TokenAuthenticationCache(new ApplicationProperties(), securityMetersService)
+        );
 
         Key key = (Key) ReflectionTestUtils.getField(tokenProvider, "key");
         assertThat(key).isNotNull().isEqualTo(Keys.hmacShaKeyFor(Decoders.BASE64.decode(base64Secret)));
@@ -0,0 +1,57 @@
+package com.mycompany.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.Board;
+import com.mycompany.myapp.domain.Line;
+import com.mycompany.myapp.repository.BoardRepository;
+import com.mycompany.myapp.repository.LineRepository;
+import com.mycompany.myapp.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for {@link CacheWarmUpService}.
+ */
+@IntegrationTest
+@Transactional
+class CacheWarmUpServiceIT {
+
+    @Autowired
+    private CacheWarmUpService cacheWarmUpService;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private LineRepository lineRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Test
+    void warmUpUsersFillsTheUsersByLoginCache() {
+        cacheManager.getCache(UserRepository.USERS_BY_LOGIN_CACHE).clear();
+
+        int users = cacheWarmUpService.warmUpUsers(10);
+
+        assertThat(users).isPositive();
+        assertThat(cacheManager.getCache(UserRepository.USERS_BY_LOGIN_CACHE).get("admin")).isNotNull();
+    }
+
+    @Test
+    void warmUpBoardsLoadsTheLatestBoards() {
+        Board older = boardRepository.saveAndFlush(new Board().title("older"));
+        Board newer = boardRepository.saveAndFlush(new Board().title("newer"));
+        lineRepository.saveAndFlush(new Line().title("line").board(newer));
+
+        assertThat(boardRepository.findLatestIds(PageRequest.of(0, 2)))
+            .containsExactly(newer.getId(), older.getId());
+        assertThat(cacheWarmUpService.warmUpBoards(1)).isEqualTo(1);
+        assertThat(cacheWarmUpService.warmUpBoards(0)).isZero();
+    }
+}
@@ -0,0 +1,124 @@
+package com.mycompany.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.Card;
+import com.mycompany.myapp.domain.Line;
+import com.mycompany.myapp.repository.CardRepository;
+import com.mycompany.myapp.service.dto.BulkItemResultDTO;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Integration tests for {@link CardBulkService}.
+ * <p>
+ * These tests are deliberately not transactional: each bulk chunk and each single-item save must commit on its own,
+ * as it does in production, for the throughput comparison to mean anything.
+ */
+@IntegrationTest
+class CardBulkServiceIT {
+
+    private static final int ROWS = 2000;
+
+    private final Logger log = LoggerFactory.getLogger(CardBulkServiceIT.class);
+
+    @Autowired
+    private CardRepository cardRepository;
+
+    @Autowired
+    private CardService cardService;
+
+    @Autowired
+    private CardBulkService cardBulkService;
+
+    private final List<Long> createdIds = new ArrayList<>();
+
+    @AfterEach
+    public void cleanup() {
+        cardBulkService.deleteAll(createdIds);
+        createdIds.clear();
+    }
+
+    @Test
+    void assertThatBulkCreateReportsEveryItemInOrder() {
+        List<Card> cards = newCards(ROWS);
+
+        List<BulkItemResultDTO> results = cardBulkService.createAll(cards);
+        results.forEach(result -> createdIds.add(result.getId()));
+
+        assertThat(results).hasSize(ROWS);
+        assertThat(results).extracting(BulkItemResultDTO::getIndex).containsExactlyElementsOf(range(ROWS));
+        assertThat(results).extracting(BulkItemResultDTO::getStatus).containsOnly(BulkItemResultDTO.Status.CREATED);
+        assertThat(cardRepository.findAllById(createdIds)).hasSize(ROWS);
+    }
+
+    @Test
+    void assertThatBulkDeleteRemovesAllItems() {
+        cardBulkService.createAll(newCards(ROWS)).forEach(result -> createdIds.add(result.getId()));
+
+        List<BulkItemResultDTO> results = cardBulkService.deleteAll(createdIds);
+
+        assertThat(results).extracting(BulkItemResultDTO::getStatus).containsOnly(BulkItemResultDTO.Status.DELETED);
+        assertThat(cardRepository.findAllById(createdIds)).isEmpty();
+        createdIds.clear();
+    }
+
+    @Test
+    void assertThatFailedBulkCreateReportsNoIds() {
+        List<Card> cards = newCards(3);
+        cards.set(1, null);
+        // a line which does not exist violates the foreign key of the card
+        cards.get(2).setLine(new Line().id(Long.MAX_VALUE));
+        long count = cardRepository.count();
+
+        List<BulkItemResultDTO> results = cardBulkService.createAll(cards);
+
+        assertThat(results).extracting(BulkItemResultDTO::getIndex).containsExactly(0, 1, 2);
+        assertThat(results)
+            .extracting(BulkItemResultDTO::getStatus)
+            .containsExactly(BulkItemResultDTO.Status.FAILED, BulkItemResultDTO.Status.INVALID, BulkItemResultDTO.Status.FAILED);
+        assertThat(results).extracting(BulkItemResultDTO::getId).containsOnlyNulls();
+        assertThat(results.get(1).getMessage()).isEqualTo("A card is required");
+        assertThat(cardRepository.count()).isEqualTo(count);
+    }
+
+    @Test
+    void compareBulkCreateWithSingleItemPath() {
+        // Warm up both paths so that the comparison is not dominated by class loading and JIT
+        newCards(50).forEach(card -> createdIds.add(cardService.save(card).getId()));
+        cardBulkService.createAll(newCards(50)).forEach(result -> createdIds.add(result.getId()));
+
+        long start = System.nanoTime();
+        newCards(ROWS).forEach(card -> createdIds.add(cardService.save(card).getId()));
+        double singleRowsPerSecond = ROWS / ((System.nanoTime() - start) / 1e9);
+
+        start = System.nanoTime();
+        cardBulkService.createAll(newCards(ROWS)).forEach(result -> createdIds.add(result.getId()));
+        double bulkRowsPerSecond = ROWS / ((System.nanoTime() - start) / 1e9);
+
+        log.info(
+            "Card creation throughput for {} rows: single-item {} rows/s, bulk {} rows/s ({}x)",
+            ROWS,
+            Math.round(singleRowsPerSecond),
+            Math.round(bulkRowsPerSecond),
+            String.format("%.1f", bulkRowsPerSecond / singleRowsPerSecond)
+        );
+        assertThat(cardRepository.findAllById(createdIds)).hasSize(2 * ROWS + 100);
+    }
+
+    private static List<Card> newCards(int size) {
+        return IntStream.range(0, size).mapToObj(i -> new Card().title("card " + i).level(i % 5).desc("bulk")).collect(Collectors.toList());
+    }
+
+    private static List<Integer> range(int size) {
+        return IntStream.range(0, size).boxed().collect(Collectors.toList());
+    }
+}
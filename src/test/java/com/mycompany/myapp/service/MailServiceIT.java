@@ -14,9 +14,13 @@ import java.io.InputStreamReader;
 import java.net.URI;
 import java.net.URL;
 import java.nio.charset.Charset;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import javax.mail.MessagingException;
 import javax.mail.Multipart;
 import javax.mail.Session;
 import javax.mail.internet.MimeBodyPart;
@@ -57,16 +61,19 @@ class MailServiceIT {
     @Autowired
     private MailService mailService;
 
+    @Autowired
+    private MailOutbox mailOutbox;
+
     @BeforeEach
     public void setup() {
-        doNothing().when(javaMailSender).send(any(MimeMessage.class));
-        when(javaMailSender.createMimeMessage()).thenReturn(new MimeMessage((Session) null));
+        when(javaMailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
     }
 
     @Test
     void testSendEmail() throws Exception {
         mailService.sendEmail("john.doe@example.com", "testSubject", "testContent", false, false);
-        verify(javaMailSender).send(messageCaptor.capture());
+        mailOutbox.flush();
+        verify(javaMailSender).send(new MimeMessage[] { messageCaptor.capture() });
         MimeMessage message = messageCaptor.getValue();
         assertThat(message.getSubject()).isEqualTo("testSubject");
         assertThat(message.getAllRecipients()[0]).hasToString("john.doe@example.com");
@@ -79,7 +86,8 @@ class MailServiceIT {
     @Test
     void testSendHtmlEmail() throws Exception {
         mailService.sendEmail("john.doe@example.com", "testSubject", "testContent", false, true);
-        verify(javaMailSender).send(messageCaptor.capture());
+        mailOutbox.flush();
+        verify(javaMailSender).send(new MimeMessage[] { messageCaptor.capture() });
         MimeMessage message = messageCaptor.getValue();
         assertThat(message.getSubject()).isEqualTo("testSubject");
         assertThat(message.getAllRecipients()[0]).hasToString("john.doe@example.com");
@@ -92,7 +100,8 @@ class MailServiceIT {
     @Test
     void testSendMultipartEmail() throws Exception {
         mailService.sendEmail("john.doe@example.com", "testSubject", "testContent", true, false);
-        verify(javaMailSender).send(messageCaptor.capture());
+        mailOutbox.flush();
+        verify(javaMailSender).send(new MimeMessage[] { messageCaptor.capture() });
         MimeMessage message = messageCaptor.getValue();
         MimeMultipart mp = (MimeMultipart) message.getContent();
         MimeBodyPart part = (MimeBodyPart) ((MimeMultipart) mp.getBodyPart(0).getContent()).getBodyPart(0);
@@ -109,7 +118,8 @@ class MailServiceIT {
     @Test
     void testSendMultipartHtmlEmail() throws Exception {
         mailService.sendEmail("john.doe@example.com", "testSubject", "testContent", true, true);
-        verify(javaMailSender).send(messageCaptor.capture());
+        mailOutbox.flush();
+        verify(javaMailSender).send(new MimeMessage[] { messageCaptor.capture() });
         MimeMessage message = messageCaptor.getValue();
         MimeMultipart mp = (MimeMultipart) message.getContent();
         MimeBodyPart part = (MimeBodyPart) ((MimeMultipart) mp.getBodyPart(0).getContent()).getBodyPart(0);
@@ -130,7 +140,8 @@ class MailServiceIT {
         user.setLogin("john");
         user.setEmail("john.doe@example.com");
         mailService.sendEmailFromTemplate(user, "mail/testEmail", "email.test.title");
-        verify(javaMailSender).send(messageCaptor.capture());
+        mailOutbox.flush();
+        verify(javaMailSender).send(new MimeMessage[] { messageCaptor.capture() });
         MimeMessage message = messageCaptor.getValue();
         assertThat(message.getSubject()).isEqualTo("test title");
         assertThat(message.getAllRecipients()[0]).hasToString(user.getEmail());
@@ -146,7 +157,8 @@ class MailServiceIT {
         user.setLogin("john");
         user.setEmail("john.doe@example.com");
         mailService.sendActivationEmail(user);
-        verify(javaMailSender).send(messageCaptor.capture());
+        mailOutbox.flush();
+        verify(javaMailSender).send(new MimeMessage[] { messageCaptor.capture() });
         MimeMessage message = messageCaptor.getValue();
         assertThat(message.getAllRecipients()[0]).hasToString(user.getEmail());
         assertThat(message.getFrom()[0]).hasToString(jHipsterProperties.getMail().getFrom());
@@ -161,7 +173,8 @@ class MailServiceIT {
         user.setLogin("john");
         user.setEmail("john.doe@example.com");
         mailService.sendCreationEmail(user);
-        verify(javaMailSender).send(messageCaptor.capture());
+        mailOutbox.flush();
+        verify(javaMailSender).send(new MimeMessage[] { messageCaptor.capture() });
         MimeMessage message = messageCaptor.getValue();
         assertThat(message.getAllRecipients()[0]).hasToString(user.getEmail());
         assertThat(message.getFrom()[0]).hasToString(jHipsterProperties.getMail().getFrom());
@@ -176,7 +189,8 @@ class MailServiceIT {
         user.setLogin("john");
         user.setEmail("john.doe@example.com");
         mailService.sendPasswordResetMail(user);
-        verify(javaMailSender).send(messageCaptor.capture());
+        mailOutbox.flush();
+        verify(javaMailSender).send(new MimeMessage[] { messageCaptor.capture() });
         MimeMessage message = messageCaptor.getValue();
         assertThat(message.getAllRecipients()[0]).hasToString(user.getEmail());
         assertThat(message.getFrom()[0]).hasToString(jHipsterProperties.getMail().getFrom());
@@ -186,12 +200,83 @@ class MailServiceIT {
 
     @Test
     void testSendEmailWithException() {
-        doThrow(MailSendException.class).when(javaMailSender).send(any(MimeMessage.class));
+        doThrow(new MailSendException("Mail server connection failed")).when(javaMailSender).send((MimeMessage[]) any());
         try {
             mailService.sendEmail("john.doe@example.com", "testSubject", "testContent", false, false);
+            mailOutbox.flush();
         } catch (Exception e) {
             fail("Exception shouldn't have been thrown");
         }
+        assertThat(mailOutbox.pending()).isEqualTo(1);
+
+        // retried by the next delivery
+        doNothing().when(javaMailSender).send((MimeMessage[]) any());
+        mailOutbox.flush();
+        verify(javaMailSender, times(2)).send(new MimeMessage[] { messageCaptor.capture() });
+        assertThat(mailOutbox.pending()).isZero();
+    }
+
+    @Test
+    void testSendQueuedEmailsInOneBatch() throws Exception {
+        mailService.sendEmail("john.doe@example.com", "first", "testContent", false, false);
+        mailService.sendEmail("jane.doe@example.com", "second", "testContent", false, false);
+        mailService.sendEmail("jim.doe@example.com", "third", "testContent", false, false);
+        verify(javaMailSender, never()).send((MimeMessage[]) any());
+
+        mailOutbox.flush();
+
+        verify(javaMailSender).send(new MimeMessage[] { messageCaptor.capture() });
+        assertThat(messageCaptor.getAllValues()).extracting(MimeMessage::getSubject).containsExactly("first", "second", "third");
+    }
+
+    @Test
+    void testRetryOnlyFailedEmailsOfBatch() throws Exception {
+        doAnswer(invocation -> {
+                MimeMessage failed = invocation.getArgument(1);
+                throw new MailSendException(Map.of(failed, new MessagingException("rejected")));
+            })
+            .when(javaMailSender)
+            .send((MimeMessage[]) any());
+        mailService.sendEmail("john.doe@example.com", "first", "testContent", false, false);
+        mailService.sendEmail("jane.doe@example.com", "second", "testContent", false, false);
+        mailOutbox.flush();
+        assertThat(mailOutbox.pending()).isEqualTo(1);
+
+        doNothing().when(javaMailSender).send((MimeMessage[]) any());
+        mailOutbox.flush();
+
+        verify(javaMailSender, times(2)).send(new MimeMessage[] { messageCaptor.capture() });
+        assertThat(messageCaptor.getAllValues()).extracting(MimeMessage::getSubject).containsExactly("first", "second", "second");
+        assertThat(mailOutbox.pending()).isZero();
+    }
+
+    @Test
+    void testPendingWhileSending() throws Exception {
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+                sending.countDown();
+                release.await(10, TimeUnit.SECONDS);
+                throw new MailSendException("Mail server timed out");
+            })
+            .when(javaMailSender)
+            .send((MimeMessage[]) any());
+        mailService.sendEmail("john.doe@example.com", "first", "testContent", false, false);
+        Thread delivery = new Thread(mailOutbox::flush);
+        delivery.start();
+        assertThat(sending.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // read without waiting for the delivery in progress
+        mailService.sendEmail("jane.doe@example.com", "second", "testContent", false, false);
+        assertThat(mailOutbox.pending()).isEqualTo(1);
+
+        release.countDown();
+        delivery.join();
+        assertThat(mailOutbox.pending()).isEqualTo(2);
+
+        doNothing().when(javaMailSender).send((MimeMessage[]) any());
+        mailOutbox.flush();
+        assertThat(mailOutbox.pending()).isZero();
     }
 
     @Test
@@ -202,7 +287,8 @@ class MailServiceIT {
         for (String langKey : languages) {
             user.setLangKey(langKey);
             mailService.sendEmailFromTemplate(user, "mail/testEmail", "email.test.title");
-            verify(javaMailSender, atLeastOnce()).send(messageCaptor.capture());
+            mailOutbox.flush();
+            verify(javaMailSender, atLeastOnce()).send(new MimeMessage[] { messageCaptor.capture() });
             MimeMessage message = messageCaptor.getValue();
 
             String propertyFilePath = "i18n/messages_" + getJavaLocale(langKey) + ".properties";
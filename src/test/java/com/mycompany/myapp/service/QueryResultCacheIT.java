@@ -0,0 +1,155 @@
+package com.mycompany.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.Board;
+import com.mycompany.myapp.domain.Card;
+import com.mycompany.myapp.domain.Line;
+import com.mycompany.myapp.repository.BoardRepository;
+import com.mycompany.myapp.repository.LineRepository;
+import com.mycompany.myapp.service.criteria.CardCriteria;
+import com.mycompany.myapp.service.criteria.LineCriteria;
+import javax.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the {@link QueryResultCache} used by {@link CardQueryService} and {@link LineQueryService}.
+ */
+@IntegrationTest
+@Transactional
+@TestPropertySource(properties = "application.query-cache.enabled=true")
+class QueryResultCacheIT {
+
+    private static final Pageable PAGE = PageRequest.of(0, 20);
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private CardQueryService cardQueryService;
+
+    @Autowired
+    private LineQueryService lineQueryService;
+
+    @Autowired
+    private CardService cardService;
+
+    @Autowired
+    private LineService lineService;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private LineRepository lineRepository;
+
+    private Board board;
+
+    private Line line;
+
+    private Line otherLine;
+
+    @BeforeEach
+    public void setup() {
+        board = boardRepository.saveAndFlush(new Board().title("board"));
+        line = lineRepository.saveAndFlush(new Line().title("line").board(board));
+        otherLine = lineRepository.saveAndFlush(new Line().title("other line").board(board));
+    }
+
+    @Test
+    void cardWritesInvalidateTheirLineOnly() {
+        cardService.save(new Card().title("card").level(1).line(line));
+        cardService.save(new Card().title("other card").level(1).line(otherLine));
+        Page<Card> linePage = cardQueryService.findByCriteria(cardsOf(line), PAGE);
+        Page<Card> otherLinePage = cardQueryService.findByCriteria(cardsOf(otherLine), PAGE);
+
+        assertThat(cardQueryService.findByCriteria(cardsOf(line), PAGE)).satisfies(this::isCached).isEqualTo(linePage);
+
+        Card added = cardService.save(new Card().title("added").level(2).line(line));
+
+        assertThat(cardQueryService.findByCriteria(cardsOf(line), PAGE).getContent())
+            .extracting(Card::getTitle)
+            .containsExactlyInAnyOrder("card", "added");
+        assertThat(cardQueryService.findByCriteria(cardsOf(otherLine), PAGE)).satisfies(this::isCached).isEqualTo(otherLinePage);
+
+        // as received by the resource, the card moved to the other line is not the managed instance
+        cardService.update(new Card().id(added.getId()).title("added").level(2).line(otherLine));
+
+        assertThat(cardQueryService.findByCriteria(cardsOf(line), PAGE).getContent()).extracting(Card::getTitle).containsExactly("card");
+        assertThat(cardQueryService.findByCriteria(cardsOf(otherLine), PAGE).getContent())
+            .extracting(Card::getTitle)
+            .containsExactlyInAnyOrder("other card", "added");
+    }
+
+    @Test
+    void lineWritesInvalidateTheirBoardAndTheirCards() {
+        cardService.save(new Card().title("card").level(1).line(line));
+        Page<Line> boardPage = lineQueryService.findByCriteria(linesOf(board), PAGE);
+        Page<Card> linePage = cardQueryService.findByCriteria(cardsOf(line), PAGE);
+
+        assertThat(lineQueryService.findByCriteria(linesOf(board), PAGE)).satisfies(this::isCached).isEqualTo(boardPage);
+        assertThat(cardQueryService.findByCriteria(cardsOf(line), PAGE)).satisfies(this::isCached);
+
+        lineService.partialUpdate(new Line().id(line.getId()).title("renamed"));
+
+        assertThat(lineQueryService.findByCriteria(linesOf(board), PAGE)).satisfies(this::isQueried);
+        assertThat(cardQueryService.findByCriteria(cardsOf(line), PAGE)).satisfies(this::isQueried);
+    }
+
+    @Test
+    void boardWritesInvalidateTheirLines() {
+        lineQueryService.findByCriteria(linesOf(board), PAGE);
+        assertThat(lineQueryService.findByCriteria(linesOf(board), PAGE)).satisfies(this::isCached);
+
+        boardService.partialUpdate(new Board().id(board.getId()).title("renamed"));
+
+        assertThat(lineQueryService.findByCriteria(linesOf(board), PAGE)).satisfies(this::isQueried);
+    }
+
+    @Test
+    void cachedPagesAreCopies() {
+        cardService.save(new Card().title("card").level(1).line(line));
+        cardQueryService.findByCriteria(cardsOf(line), PAGE);
+
+        Card first = cardQueryService.findByCriteria(cardsOf(line), PAGE).getContent().get(0);
+        first.setTitle("modified by a request");
+        Card second = cardQueryService.findByCriteria(cardsOf(line), PAGE).getContent().get(0);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getTitle()).isEqualTo("card");
+    }
+
+    /**
+     * A page served from the cache is a copy: unlike the result of a query, it holds no entity of the persistence context.
+     */
+    private void isCached(Iterable<?> page) {
+        assertThat(page).isNotEmpty().noneMatch(entityManager::contains);
+    }
+
+    private void isQueried(Iterable<?> page) {
+        assertThat(page).isNotEmpty().allMatch(entityManager::contains);
+    }
+
+    private static CardCriteria cardsOf(Line line) {
+        CardCriteria criteria = new CardCriteria();
+        criteria.lineId().setEquals(line.getId());
+        return criteria;
+    }
+
+    private static LineCriteria linesOf(Board board) {
+        LineCriteria criteria = new LineCriteria();
+        criteria.boardId().setEquals(board.getId());
+        return criteria;
+    }
+}
@@ -0,0 +1,143 @@
+package com.mycompany.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.Card;
+import com.mycompany.myapp.service.criteria.CardCriteria;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Test class for the {@link QueryResultCache} component.
+ */
+class QueryResultCacheTest {
+
+    private static final String CACHE = QueryResultCache.CARDS_BY_CRITERIA_CACHE;
+
+    private static final Pageable PAGE = PageRequest.of(0, 20);
+
+    private QueryResultCache queryResultCache;
+
+    private AtomicInteger queries;
+
+    @BeforeEach
+    public void setup() {
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getQueryCache().setEnabled(true);
+        queryResultCache = new QueryResultCache(applicationProperties, new ConcurrentMapCacheManager());
+        queries = new AtomicInteger();
+    }
+
+    @AfterEach
+    public void cleanup() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testSameCriteriaAndPageIsCached() {
+        Page<Card> first = find(lineCriteria(1L), PAGE);
+
+        assertThat(find(lineCriteria(1L), PAGE)).isSameAs(first);
+        assertThat(queries).hasValue(1);
+
+        find(lineCriteria(1L), PageRequest.of(1, 20));
+        find(lineCriteria(2L), PAGE);
+        assertThat(queries).hasValue(3);
+    }
+
+    @Test
+    void testCriteriaChangedAfterTheQueryDoesNotChangeTheKey() {
+        CardCriteria criteria = lineCriteria(1L);
+        find(criteria, PAGE);
+
+        criteria.lineId().setEquals(2L);
+        find(lineCriteria(1L), PAGE);
+
+        assertThat(queries).hasValue(1);
+    }
+
+    @Test
+    void testInvalidateScope() {
+        find(lineCriteria(1L), PAGE);
+        find(lineCriteria(2L), PAGE);
+        find(new CardCriteria(), PAGE);
+
+        queryResultCache.invalidate(CACHE, 1L);
+
+        find(lineCriteria(1L), PAGE);
+        find(lineCriteria(2L), PAGE);
+        find(new CardCriteria(), PAGE);
+        assertThat(queries).as("line 1 and unscoped queried again, line 2 cached").hasValue(5);
+    }
+
+    @Test
+    void testInvalidateAll() {
+        find(lineCriteria(1L), PAGE);
+        find(new CardCriteria(), PAGE);
+
+        queryResultCache.invalidateAll(CACHE);
+
+        find(lineCriteria(1L), PAGE);
+        find(new CardCriteria(), PAGE);
+        assertThat(queries).hasValue(4);
+    }
+
+    @Test
+    void testInvalidateAgainAfterTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        queryResultCache.invalidate(CACHE, 1L);
+        // read by a concurrent request before the writing transaction commits
+        find(lineCriteria(1L), PAGE);
+
+        TransactionSynchronizationManager
+            .getSynchronizations()
+            .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        find(lineCriteria(1L), PAGE);
+        assertThat(queries).hasValue(2);
+    }
+
+    @Test
+    void testDisabled() {
+        queryResultCache = new QueryResultCache(new ApplicationProperties(), new ConcurrentMapCacheManager());
+
+        find(lineCriteria(1L), PAGE);
+        find(lineCriteria(1L), PAGE);
+
+        assertThat(queryResultCache.isEnabled()).isFalse();
+        assertThat(queries).hasValue(2);
+    }
+
+    private Page<Card> find(CardCriteria criteria, Pageable page) {
+        Long scope = criteria.getLineId() != null ? criteria.getLineId().getEquals() : null;
+        return queryResultCache.getPage(
+            CACHE,
+            scope,
+            criteria,
+            page,
+            () -> {
+                queries.incrementAndGet();
+                return new PageImpl<>(List.of(new Card()), page, 1);
+            }
+        );
+    }
+
+    private static CardCriteria lineCriteria(Long lineId) {
+        CardCriteria criteria = new CardCriteria();
+        criteria.lineId().setEquals(lineId);
+        return criteria;
+    }
+}
@@ -1,23 +1,32 @@
 package com.mycompany.myapp.web.rest;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItem;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.mycompany.myapp.IntegrationTest;
 import com.mycompany.myapp.domain.Board;
+import com.mycompany.myapp.domain.BoardTemplate;
+import com.mycompany.myapp.domain.Card;
 import com.mycompany.myapp.domain.Line;
+import com.mycompany.myapp.domain.enumeration.BoardItemType;
 import com.mycompany.myapp.repository.BoardRepository;
 import com.mycompany.myapp.service.criteria.BoardCriteria;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 import javax.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -94,6 +103,69 @@ class BoardResourceIT {
         assertThat(testBoard.getTitle()).isEqualTo(DEFAULT_TITLE);
     }
 
+    @Test
+    @Transactional
+    void createBoardCreatesTheLinesOfTheDefaultTemplate() throws Exception {
+        restBoardMockMvc
+            .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(TestUtil.convertObjectToJsonBytes(board)))
+            .andExpect(status().isCreated());
+        List<Board> boardList = boardRepository.findAll();
+        Board created = boardList.get(boardList.size() - 1);
+
+        // Validate the lines of the "default" template were created with the board
+        List<Line> lines = TestUtil
+            .findAll(em, Line.class)
+            .stream()
+            .filter(line -> line.getBoard() != null && created.getId().equals(line.getBoard().getId()))
+            .collect(Collectors.toList());
+        assertThat(lines).extracting(Line::getTitle).containsExactlyInAnyOrder("todo", "doing", "done");
+    }
+
+    @Test
+    @Transactional
+    void createBoardWithTemplate() throws Exception {
+        List<String> titles = List.of("backlog", "ready", "in progress", "review", "released");
+        em.persist(new BoardTemplate().name("delivery").lineTitles(titles));
+        em.flush();
+
+        restBoardMockMvc
+            .perform(
+                post(ENTITY_API_URL + "?template=delivery")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(board))
+            )
+            .andExpect(status().isCreated());
+        List<Board> boardList = boardRepository.findAll();
+        Board created = boardList.get(boardList.size() - 1);
+
+        // Validate the lines of the template were created with the board
+        List<Line> lines = TestUtil
+            .findAll(em, Line.class)
+            .stream()
+            .filter(line -> line.getBoard() != null && created.getId().equals(line.getBoard().getId()))
+            .collect(Collectors.toList());
+        assertThat(lines).extracting(Line::getTitle).containsExactlyInAnyOrderElementsOf(titles);
+    }
+
+    @Test
+    @Transactional
+    void createBoardWithUnknownTemplate() throws Exception {
+        int databaseSizeBeforeCreate = boardRepository.findAll().size();
+
+        // A board cannot be created from a template that does not exist
+        restBoardMockMvc
+            .perform(
+                post(ENTITY_API_URL + "?template=unknown")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(board))
+            )
+            .andExpect(status().isBadRequest());
+
+        // Validate the Board in the database
+        List<Board> boardList = boardRepository.findAll();
+        assertThat(boardList).hasSize(databaseSizeBeforeCreate);
+    }
+
     @Test
     @Transactional
     void createBoardWithExistingId() throws Exception {
@@ -127,6 +199,77 @@ class BoardResourceIT {
             .andExpect(jsonPath("$.[*].title").value(hasItem(DEFAULT_TITLE)));
     }
 
+    @Test
+    @Transactional
+    void getAllBoardsWithoutCount() throws Exception {
+        // Initialize the database
+        boardRepository.saveAndFlush(createEntity(em).title("slice"));
+        boardRepository.saveAndFlush(createEntity(em).title("slice"));
+
+        restBoardMockMvc
+            .perform(get(ENTITY_API_URL + "?title.equals=slice&count=NONE&size=1&sort=id,asc"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(header().string("X-Has-Next-Page", "true"))
+            .andExpect(header().string(HttpHeaders.LINK, containsString("rel=\"next\"")))
+            .andExpect(header().doesNotExist("X-Total-Count"));
+
+        restBoardMockMvc
+            .perform(get(ENTITY_API_URL + "?title.equals=slice&count=NONE&size=1&page=1&sort=id,asc"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(header().string("X-Has-Next-Page", "false"))
+            .andExpect(header().string(HttpHeaders.LINK, containsString("rel=\"prev\"")));
+    }
+
+    @Test
+    @Transactional
+    void getAllBoardsWithEstimatedCount() throws Exception {
+        // Initialize the database
+        boardRepository.saveAndFlush(createEntity(em).title("estimated"));
+        boardRepository.saveAndFlush(createEntity(em).title("estimated"));
+
+        // A filtered listing is always counted
+        restBoardMockMvc
+            .perform(get(ENTITY_API_URL + "?title.equals=estimated&count=ESTIMATED&size=1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(header().string("X-Total-Count", "2"));
+
+        // H2 has no planner statistics, so the unfiltered listing falls back to counting as well
+        restBoardMockMvc
+            .perform(get(ENTITY_API_URL + "?count=ESTIMATED&size=1"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Total-Count", String.valueOf(boardRepository.count())));
+    }
+
+    @Test
+    @Transactional
+    void getAllBoardsWithKeysetPagination() throws Exception {
+        // Initialize the database
+        Board first = boardRepository.saveAndFlush(createEntity(em).title("keyset"));
+        Board second = boardRepository.saveAndFlush(createEntity(em).title("keyset"));
+        Board third = boardRepository.saveAndFlush(createEntity(em).title("keyset"));
+
+        // The first slice links to the next one and has no total count
+        restBoardMockMvc
+            .perform(get(ENTITY_API_URL + "?title.equals=keyset&size=2&after=" + (first.getId() - 1)))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(contains(first.getId().intValue(), second.getId().intValue())))
+            .andExpect(header().string("X-Has-Next-Page", "true"))
+            .andExpect(header().string(HttpHeaders.LINK, containsString("after=" + second.getId())))
+            .andExpect(header().doesNotExist("X-Total-Count"));
+
+        // The last slice has no next link
+        restBoardMockMvc
+            .perform(get(ENTITY_API_URL + "?title.equals=keyset&size=2&after=" + second.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(contains(third.getId().intValue())))
+            .andExpect(header().string("X-Has-Next-Page", "false"))
+            .andExpect(header().doesNotExist(HttpHeaders.LINK));
+    }
+
     @Test
     @Transactional
     void getBoard() throws Exception {
@@ -293,6 +436,199 @@ class BoardResourceIT {
         restBoardMockMvc.perform(get(ENTITY_API_URL_ID, Long.MAX_VALUE)).andExpect(status().isNotFound());
     }
 
+    @Test
+    @Transactional
+    void getBoardSnapshot() throws Exception {
+        // Initialize the database
+        boardRepository.saveAndFlush(board);
+        Line line = LineResourceIT.createEntity(em).board(board);
+        em.persist(line);
+        Card card = CardResourceIT.createEntity(em).line(line);
+        em.persist(card);
+        em.flush();
+        em.clear();
+
+        // Get the board with its lines and cards
+        restBoardMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/snapshot", board.getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.id").value(board.getId().intValue()))
+            .andExpect(jsonPath("$.title").value(DEFAULT_TITLE))
+            .andExpect(jsonPath("$.lines[*].id").value(hasItem(line.getId().intValue())))
+            .andExpect(jsonPath("$.lines[0].cards[*].id").value(hasItem(card.getId().intValue())));
+    }
+
+    @Test
+    @Transactional
+    void getNonExistingBoardSnapshot() throws Exception {
+        // Get the board snapshot
+        restBoardMockMvc.perform(get(ENTITY_API_URL_ID + "/snapshot", Long.MAX_VALUE)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    @Transactional
+    void getBoardChanges() throws Exception {
+        // Initialize the database
+        boardRepository.saveAndFlush(board);
+        Line line = LineResourceIT.createEntity(em).board(board);
+        em.persist(line);
+        Card card = CardResourceIT.createEntity(em).line(line);
+        em.persist(card);
+        em.flush();
+        em.clear();
+
+        restBoardMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/changes", board.getId()).param("since", hoursAgo(1)))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.until").isNotEmpty())
+            .andExpect(jsonPath("$.board.id").value(board.getId().intValue()))
+            .andExpect(jsonPath("$.lines[*].id").value(contains(line.getId().intValue())))
+            .andExpect(jsonPath("$.cards[*].id").value(contains(card.getId().intValue())))
+            .andExpect(jsonPath("$.deleted").isEmpty());
+
+        // Nothing changed since
+        restBoardMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/changes", board.getId()).param("since", hoursAgo(-1)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.board").doesNotExist())
+            .andExpect(jsonPath("$.lines").isEmpty())
+            .andExpect(jsonPath("$.cards").isEmpty());
+    }
+
+    @Test
+    @Transactional
+    void getBoardChangesWithDeletedCard() throws Exception {
+        // Initialize the database
+        boardRepository.saveAndFlush(board);
+        Line line = LineResourceIT.createEntity(em).board(board);
+        em.persist(line);
+        Card card = CardResourceIT.createEntity(em).line(line);
+        em.persist(card);
+        em.flush();
+        String since = Instant.now().toString();
+
+        restBoardMockMvc.perform(delete("/api/cards/{id}", card.getId())).andExpect(status().isNoContent());
+
+        restBoardMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/changes", board.getId()).param("since", since))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.cards").isEmpty())
+            .andExpect(jsonPath("$.deleted[*].entityType").value(contains(BoardItemType.CARD.name())))
+            .andExpect(jsonPath("$.deleted[*].entityId").value(contains(card.getId().intValue())));
+    }
+
+    @Test
+    @Transactional
+    void getBoardChangesWithMovedCard() throws Exception {
+        // Initialize the database
+        boardRepository.saveAndFlush(board);
+        Line line = LineResourceIT.createEntity(em).board(board);
+        em.persist(line);
+        Card card = CardResourceIT.createEntity(em).line(line);
+        em.persist(card);
+        Board otherBoard = createUpdatedEntity(em);
+        em.persist(otherBoard);
+        Line otherLine = LineResourceIT.createEntity(em).board(otherBoard);
+        em.persist(otherLine);
+        em.flush();
+        em.clear();
+        String since = Instant.now().toString();
+
+        // Move the card to a line of the other board
+        Card movedCard = new Card().id(card.getId()).title(card.getTitle()).line(new Line().id(otherLine.getId()));
+        restBoardMockMvc
+            .perform(
+                put("/api/cards/{id}", card.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(movedCard))
+            )
+            .andExpect(status().isOk());
+
+        restBoardMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/changes", board.getId()).param("since", since))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.cards").isEmpty())
+            .andExpect(jsonPath("$.deleted[*].entityId").value(contains(card.getId().intValue())));
+        restBoardMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/changes", otherBoard.getId()).param("since", since))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.cards[*].id").value(contains(card.getId().intValue())))
+            .andExpect(jsonPath("$.deleted").isEmpty());
+    }
+
+    @Test
+    @Transactional
+    void getBoardChangesWithMovedLine() throws Exception {
+        // Initialize the database
+        boardRepository.saveAndFlush(board);
+        Line line = LineResourceIT.createEntity(em).board(board);
+        em.persist(line);
+        Card card = CardResourceIT.createEntity(em).line(line);
+        em.persist(card);
+        Board otherBoard = createUpdatedEntity(em);
+        em.persist(otherBoard);
+        em.flush();
+        em.clear();
+        String since = Instant.now().toString();
+
+        // Move the line, with its card, to the other board
+        Line movedLine = new Line().id(line.getId()).title(line.getTitle()).board(new Board().id(otherBoard.getId()));
+        restBoardMockMvc
+            .perform(
+                put("/api/lines/{id}", line.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(movedLine))
+            )
+            .andExpect(status().isOk());
+
+        restBoardMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/changes", otherBoard.getId()).param("since", since))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.lines[*].id").value(contains(line.getId().intValue())))
+            .andExpect(jsonPath("$.cards[*].id").value(contains(card.getId().intValue())));
+    }
+
+    @Test
+    @Transactional
+    void getDeletedBoardChanges() throws Exception {
+        // Initialize the database
+        boardRepository.saveAndFlush(board);
+        String since = Instant.now().toString();
+
+        restBoardMockMvc.perform(delete(ENTITY_API_URL_ID, board.getId())).andExpect(status().isNoContent());
+
+        restBoardMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/changes", board.getId()).param("since", since))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.deleted[*].entityType").value(contains(BoardItemType.BOARD.name())));
+    }
+
+    @Test
+    @Transactional
+    void getExpiredBoardChanges() throws Exception {
+        // Initialize the database
+        boardRepository.saveAndFlush(board);
+
+        restBoardMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/changes", board.getId()).param("since", hoursAgo(365 * 24)))
+            .andExpect(status().isGone())
+            .andExpect(jsonPath("$.message").value("error.changesExpired"));
+    }
+
+    @Test
+    @Transactional
+    void getNonExistingBoardChanges() throws Exception {
+        restBoardMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/changes", Long.MAX_VALUE).param("since", Instant.now().toString()))
+            .andExpect(status().isNotFound());
+    }
+
+    private static String hoursAgo(long hours) {
+        return Instant.now().minus(hours, ChronoUnit.HOURS).toString();
+    }
+
     @Test
     @Transactional
     void putExistingBoard() throws Exception {
@@ -322,6 +658,23 @@ class BoardResourceIT {
         assertThat(testBoard.getTitle()).isEqualTo(UPDATED_TITLE);
     }
 
+    @Test
+    @Transactional
+    void getBoardWithETag() throws Exception {
+        // Initialize the database
+        boardRepository.saveAndFlush(board);
+        String eTag = "\"" + board.getVersion() + "\"";
+
+        restBoardMockMvc
+            .perform(get(ENTITY_API_URL_ID, board.getId()))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, eTag));
+
+        restBoardMockMvc
+            .perform(get(ENTITY_API_URL_ID, board.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified());
+    }
+
     @Test
     @Transactional
     void putNonExistingBoard() throws Exception {
@@ -0,0 +1,172 @@
+package com.mycompany.myapp.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.BoardTemplate;
+import com.mycompany.myapp.repository.BoardTemplateRepository;
+import com.mycompany.myapp.security.AuthoritiesConstants;
+import java.util.List;
+import javax.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the {@link BoardTemplateResource} REST controller.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser(authorities = AuthoritiesConstants.ADMIN)
+class BoardTemplateResourceIT {
+
+    private static final String DEFAULT_NAME = "AAAAAAAAAA";
+    private static final String UPDATED_NAME = "BBBBBBBBBB";
+
+    private static final List<String> DEFAULT_LINE_TITLES = List.of("AAAAAAAAAA", "BBBBBBBBBB");
+    private static final List<String> UPDATED_LINE_TITLES = List.of("CCCCCCCCCC", "DDDDDDDDDD", "EEEEEEEEEE");
+
+    private static final String ENTITY_API_URL = "/api/board-templates";
+    private static final String ENTITY_API_URL_ID = ENTITY_API_URL + "/{id}";
+
+    @Autowired
+    private BoardTemplateRepository boardTemplateRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private MockMvc restBoardTemplateMockMvc;
+
+    private BoardTemplate boardTemplate;
+
+    /**
+     * Create an entity for this test.
+     *
+     * This is a static method, as tests for other entities might also need it,
+     * if they test an entity which requires the current entity.
+     */
+    public static BoardTemplate createEntity(EntityManager em) {
+        BoardTemplate boardTemplate = new BoardTemplate().name(DEFAULT_NAME).lineTitles(DEFAULT_LINE_TITLES);
+        return boardTemplate;
+    }
+
+    @BeforeEach
+    public void initTest() {
+        boardTemplate = createEntity(em);
+    }
+
+    @Test
+    @Transactional
+    void createBoardTemplate() throws Exception {
+        int databaseSizeBeforeCreate = boardTemplateRepository.findAll().size();
+        // Create the BoardTemplate
+        restBoardTemplateMockMvc
+            .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(TestUtil.convertObjectToJsonBytes(boardTemplate)))
+            .andExpect(status().isCreated());
+
+        // Validate the BoardTemplate in the database
+        List<BoardTemplate> boardTemplateList = boardTemplateRepository.findAll();
+        assertThat(boardTemplateList).hasSize(databaseSizeBeforeCreate + 1);
+        BoardTemplate testBoardTemplate = boardTemplateRepository.findOneWithLineTitlesByName(DEFAULT_NAME).get();
+        assertThat(testBoardTemplate.getLineTitles()).containsExactlyElementsOf(DEFAULT_LINE_TITLES);
+    }
+
+    @Test
+    @Transactional
+    void createBoardTemplateWithExistingName() throws Exception {
+        boardTemplateRepository.saveAndFlush(boardTemplate);
+        int databaseSizeBeforeCreate = boardTemplateRepository.findAll().size();
+
+        // A template name can only be used once
+        restBoardTemplateMockMvc
+            .perform(
+                post(ENTITY_API_URL)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(createEntity(em).lineTitles(UPDATED_LINE_TITLES)))
+            )
+            .andExpect(status().isBadRequest());
+
+        assertThat(boardTemplateRepository.findAll()).hasSize(databaseSizeBeforeCreate);
+    }
+
+    @Test
+    @Transactional
+    @WithMockUser
+    void createBoardTemplateRequiresAdmin() throws Exception {
+        restBoardTemplateMockMvc
+            .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(TestUtil.convertObjectToJsonBytes(boardTemplate)))
+            .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @Transactional
+    @WithMockUser
+    void getAllBoardTemplates() throws Exception {
+        // Initialize the database
+        boardTemplateRepository.saveAndFlush(boardTemplate);
+
+        // Get all the boardTemplateList, including the default template
+        restBoardTemplateMockMvc
+            .perform(get(ENTITY_API_URL))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].name").value(hasItem("default")))
+            .andExpect(jsonPath("$.[*].name").value(hasItem(DEFAULT_NAME)))
+            .andExpect(jsonPath("$.[*].lineTitles").value(hasItem(DEFAULT_LINE_TITLES)));
+    }
+
+    @Test
+    @Transactional
+    void putExistingBoardTemplate() throws Exception {
+        // Initialize the database
+        boardTemplateRepository.saveAndFlush(boardTemplate);
+
+        // Update the boardTemplate
+        BoardTemplate updatedBoardTemplate = boardTemplateRepository.findById(boardTemplate.getId()).get();
+        // Disconnect from session so that the updates on updatedBoardTemplate are not directly saved in db
+        em.detach(updatedBoardTemplate);
+        updatedBoardTemplate.name(UPDATED_NAME).lineTitles(UPDATED_LINE_TITLES);
+
+        restBoardTemplateMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, updatedBoardTemplate.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(updatedBoardTemplate))
+            )
+            .andExpect(status().isOk());
+
+        // Validate the BoardTemplate in the database
+        em.flush();
+        em.clear();
+        BoardTemplate testBoardTemplate = boardTemplateRepository.findOneWithLineTitlesByName(UPDATED_NAME).get();
+        assertThat(testBoardTemplate.getId()).isEqualTo(boardTemplate.getId());
+        assertThat(testBoardTemplate.getLineTitles()).containsExactlyElementsOf(UPDATED_LINE_TITLES);
+    }
+
+    @Test
+    @Transactional
+    void deleteBoardTemplate() throws Exception {
+        // Initialize the database
+        boardTemplateRepository.saveAndFlush(boardTemplate);
+
+        int databaseSizeBeforeDelete = boardTemplateRepository.findAll().size();
+
+        // Delete the boardTemplate
+        restBoardTemplateMockMvc
+            .perform(delete(ENTITY_API_URL_ID, boardTemplate.getId()).accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isNoContent());
+
+        // Validate the database contains one less item
+        List<BoardTemplate> boardTemplateList = boardTemplateRepository.findAll();
+        assertThat(boardTemplateList).hasSize(databaseSizeBeforeDelete - 1);
+    }
+}
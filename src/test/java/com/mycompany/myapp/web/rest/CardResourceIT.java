@@ -1,6 +1,8 @@
 package com.mycompany.myapp.web.rest;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItem;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -9,7 +11,10 @@ import com.mycompany.myapp.IntegrationTest;
 import com.mycompany.myapp.domain.Card;
 import com.mycompany.myapp.domain.Line;
 import com.mycompany.myapp.repository.CardRepository;
+import com.mycompany.myapp.security.AuthoritiesConstants;
+import com.mycompany.myapp.service.CardPositionService;
 import com.mycompany.myapp.service.criteria.CardCriteria;
+import com.mycompany.myapp.service.dto.CardMoveDTO;
 import java.util.List;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicLong;
@@ -18,9 +23,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -43,6 +51,10 @@ class CardResourceIT {
 
     private static final String ENTITY_API_URL = "/api/cards";
     private static final String ENTITY_API_URL_ID = ENTITY_API_URL + "/{id}";
+    private static final String ENTITY_API_URL_BULK = ENTITY_API_URL + "/bulk";
+    private static final String ENTITY_API_URL_EXPORT = ENTITY_API_URL + "/export";
+    private static final String ENTITY_API_URL_IMPORT = ENTITY_API_URL + "/import";
+    private static final String ENTITY_API_URL_SEARCH = ENTITY_API_URL + "/_search";
 
     private static Random random = new Random();
     private static AtomicLong count = new AtomicLong(random.nextInt() + (2 * Integer.MAX_VALUE));
@@ -138,6 +150,240 @@ class CardResourceIT {
             .andExpect(jsonPath("$.[*].desc").value(hasItem(DEFAULT_DESC)));
     }
 
+    @Test
+    @Transactional
+    void getAllCardsWithoutCount() throws Exception {
+        // Initialize the database
+        cardRepository.saveAndFlush(createEntity(em).title("slice"));
+        cardRepository.saveAndFlush(createEntity(em).title("slice"));
+
+        restCardMockMvc
+            .perform(get(ENTITY_API_URL + "?title.equals=slice&count=NONE&size=1&sort=id,asc"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(header().string("X-Has-Next-Page", "true"))
+            .andExpect(header().string(HttpHeaders.LINK, containsString("rel=\"next\"")))
+            .andExpect(header().doesNotExist("X-Total-Count"));
+
+        restCardMockMvc
+            .perform(get(ENTITY_API_URL + "?title.equals=slice&count=NONE&size=1&page=1&sort=id,asc"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(header().string("X-Has-Next-Page", "false"))
+            .andExpect(header().string(HttpHeaders.LINK, containsString("rel=\"prev\"")));
+    }
+
+    @Test
+    @Transactional
+    void getAllCardsWithEstimatedCount() throws Exception {
+        // Initialize the database
+        cardRepository.saveAndFlush(createEntity(em).title("estimated"));
+        cardRepository.saveAndFlush(createEntity(em).title("estimated"));
+
+        // A filtered listing is always counted
+        restCardMockMvc
+            .perform(get(ENTITY_API_URL + "?title.equals=estimated&count=ESTIMATED&size=1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(header().string("X-Total-Count", "2"));
+
+        // H2 has no planner statistics, so the unfiltered listing falls back to counting as well
+        restCardMockMvc
+            .perform(get(ENTITY_API_URL + "?count=ESTIMATED&size=1"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Total-Count", String.valueOf(cardRepository.count())));
+    }
+
+    @Test
+    @Transactional
+    void getAllCardsWithKeysetPagination() throws Exception {
+        // Initialize the database
+        Card first = cardRepository.saveAndFlush(createEntity(em).title("keyset"));
+        Card second = cardRepository.saveAndFlush(createEntity(em).title("keyset"));
+        Card third = cardRepository.saveAndFlush(createEntity(em).title("keyset"));
+
+        // The first slice links to the next one and has no total count
+        restCardMockMvc
+            .perform(get(ENTITY_API_URL + "?title.equals=keyset&size=2&after=" + (first.getId() - 1)))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(contains(first.getId().intValue(), second.getId().intValue())))
+            .andExpect(header().string("X-Has-Next-Page", "true"))
+            .andExpect(header().string(HttpHeaders.LINK, containsString("after=" + second.getId())))
+            .andExpect(header().doesNotExist("X-Total-Count"));
+
+        // The last slice has no next link
+        restCardMockMvc
+            .perform(get(ENTITY_API_URL + "?title.equals=keyset&size=2&after=" + second.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(contains(third.getId().intValue())))
+            .andExpect(header().string("X-Has-Next-Page", "false"))
+            .andExpect(header().doesNotExist(HttpHeaders.LINK));
+    }
+
+    @Test
+    @WithMockUser(authorities = AuthoritiesConstants.ADMIN)
+    void exportCardsAsNdjson() throws Exception {
+        // Not transactional: the export is streamed from another thread, which must see committed cards
+        Card first = cardRepository.saveAndFlush(createEntity(em));
+        Card second = cardRepository.saveAndFlush(createEntity(em).title(UPDATED_TITLE));
+        try {
+            MvcResult result = restCardMockMvc
+                .perform(get(ENTITY_API_URL_EXPORT + "?id.in=" + first.getId() + "," + second.getId()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+            restCardMockMvc
+                .perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, containsString("cards.ndjson")));
+
+            String[] lines = result.getResponse().getContentAsString().split("\n");
+            assertThat(lines).hasSize(2);
+            assertThat(lines[0]).startsWith("{\"id\":" + first.getId() + ",").contains("\"title\":\"" + DEFAULT_TITLE + "\"");
+            assertThat(lines[1]).startsWith("{\"id\":" + second.getId() + ",").contains("\"title\":\"" + UPDATED_TITLE + "\"");
+        } finally {
+            cardRepository.deleteAllById(List.of(first.getId(), second.getId()));
+        }
+    }
+
+    @Test
+    @WithMockUser(authorities = AuthoritiesConstants.ADMIN)
+    void exportCardsAsCsv() throws Exception {
+        // Not transactional: the export is streamed from another thread, which must see committed cards
+        Card card = cardRepository.saveAndFlush(createEntity(em).title("quoted, \"title\""));
+        try {
+            MvcResult result = restCardMockMvc
+                .perform(get(ENTITY_API_URL_EXPORT + "?format=csv&id.equals=" + card.getId()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+            restCardMockMvc
+                .perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv"))
+                .andExpect(
+                    content()
+                        .string(
+                            "id,title,level,desc,lineId\r\n" +
+                            card.getId() +
+                            ",\"quoted, \"\"title\"\"\"," +
+                            DEFAULT_LEVEL +
+                            "," +
+                            DEFAULT_DESC +
+                            ",\r\n"
+                        )
+                );
+        } finally {
+            cardRepository.deleteById(card.getId());
+        }
+    }
+
+    @Test
+    @Transactional
+    @WithMockUser(authorities = AuthoritiesConstants.ADMIN)
+    void exportCardsWithUnsupportedFormat() throws Exception {
+        restCardMockMvc.perform(get(ENTITY_API_URL_EXPORT + "?format=xml")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional
+    void exportCardsRequiresAdmin() throws Exception {
+        restCardMockMvc.perform(get(ENTITY_API_URL_EXPORT)).andExpect(status().isForbidden());
+    }
+
+    @Test
+    @Transactional
+    @WithMockUser(authorities = AuthoritiesConstants.ADMIN)
+    void importCardsFromCsv() throws Exception {
+        Line line = LineResourceIT.createEntity(em);
+        em.persist(line);
+        em.flush();
+        int databaseSizeBeforeImport = cardRepository.findAll().size();
+        String csv =
+            "title,level,desc,lineId\r\n" +
+            "first,1,plain," +
+            line.getId() +
+            "\r\n" +
+            "second,2,\"multi\nline, \"\"quoted\"\"\",\r\n" +
+            "third,3,,-1\r\n" +
+            "fourth,not a number,,\r\n";
+
+        MockMultipartFile file = new MockMultipartFile("file", "cards.csv", "text/csv", csv.getBytes());
+        restCardMockMvc
+            .perform(multipart(ENTITY_API_URL_IMPORT).file(file).param("format", "csv"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.records").value(4))
+            .andExpect(jsonPath("$.created").value(2))
+            .andExpect(jsonPath("$.failed").value(2))
+            .andExpect(jsonPath("$.errors.[*].index").value(contains(2, 3)))
+            .andExpect(jsonPath("$.errors.[*].status").value(contains("INVALID", "INVALID")));
+
+        List<Card> cardList = cardRepository.findAll();
+        assertThat(cardList).hasSize(databaseSizeBeforeImport + 2);
+        Card first = cardList.get(cardList.size() - 2);
+        assertThat(first.getTitle()).isEqualTo("first");
+        assertThat(first.getLine().getId()).isEqualTo(line.getId());
+        Card second = cardList.get(cardList.size() - 1);
+        assertThat(second.getDesc()).isEqualTo("multi\nline, \"quoted\"");
+        assertThat(second.getLine()).isNull();
+    }
+
+    @Test
+    @Transactional
+    @WithMockUser(authorities = AuthoritiesConstants.ADMIN)
+    void importCardsFromNdjson() throws Exception {
+        int databaseSizeBeforeImport = cardRepository.findAll().size();
+        String ndjson = "{\"id\":123,\"title\":\"first\",\"level\":1}\n{not json}\n\n{\"title\":\"second\"}\n";
+
+        restCardMockMvc
+            .perform(multipart(ENTITY_API_URL_IMPORT).file(new MockMultipartFile("file", "cards.ndjson", null, ndjson.getBytes())))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.records").value(3))
+            .andExpect(jsonPath("$.created").value(2))
+            .andExpect(jsonPath("$.errors.[*].index").value(contains(1)));
+
+        assertThat(cardRepository.findAll()).hasSize(databaseSizeBeforeImport + 2);
+    }
+
+    @Test
+    @Transactional
+    void importCardsRequiresAdmin() throws Exception {
+        restCardMockMvc
+            .perform(multipart(ENTITY_API_URL_IMPORT).file(new MockMultipartFile("file", "cards.ndjson", null, new byte[0])))
+            .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @Transactional
+    void searchCards() throws Exception {
+        // Initialize the database
+        Card inDesc = cardRepository.saveAndFlush(createEntity(em).title("groceries").desc("buy zucchini and quinoa"));
+        Card inTitle = cardRepository.saveAndFlush(createEntity(em).title("Zucchini quinoa salad").desc("dinner"));
+        cardRepository.saveAndFlush(createEntity(em).title("zucchini bread").desc("dessert"));
+
+        // Every word must match, title matches first
+        restCardMockMvc
+            .perform(get(ENTITY_API_URL_SEARCH + "?q=zucchini quinoa"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(contains(inTitle.getId().intValue(), inDesc.getId().intValue())))
+            .andExpect(header().string("X-Has-Next-Page", "false"));
+
+        restCardMockMvc
+            .perform(get(ENTITY_API_URL_SEARCH + "?q=zucchini&size=2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(header().string("X-Has-Next-Page", "true"));
+    }
+
+    @Test
+    @Transactional
+    void searchCardsWithBlankQuery() throws Exception {
+        restCardMockMvc.perform(get(ENTITY_API_URL_SEARCH + "?q= ")).andExpect(status().isOk()).andExpect(jsonPath("$").isEmpty());
+    }
+
     @Test
     @Transactional
     void getCard() throws Exception {
@@ -495,6 +741,262 @@ class CardResourceIT {
         assertThat(testCard.getDesc()).isEqualTo(UPDATED_DESC);
     }
 
+    @Test
+    @Transactional
+    void getCardWithETag() throws Exception {
+        // Initialize the database
+        cardRepository.saveAndFlush(card);
+        String eTag = "\"" + card.getVersion() + "\"";
+
+        restCardMockMvc
+            .perform(get(ENTITY_API_URL_ID, card.getId()))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, eTag))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+
+        restCardMockMvc
+            .perform(get(ENTITY_API_URL_ID, card.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+    }
+
+    @Test
+    @Transactional
+    void getCardWithETagChangedByItsLine() throws Exception {
+        // Initialize the database
+        Line line = persistLine();
+        cardRepository.saveAndFlush(card.line(line));
+        String eTag = "\"" + card.getVersion() + "-" + line.getVersion() + "\"";
+
+        restCardMockMvc.perform(get(ENTITY_API_URL_ID, card.getId())).andExpect(header().string(HttpHeaders.ETAG, eTag));
+
+        // Rename the line, which the card embeds
+        line.setTitle(UPDATED_TITLE);
+        em.flush();
+
+        restCardMockMvc
+            .perform(get(ENTITY_API_URL_ID, card.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + card.getVersion() + "-" + line.getVersion() + "\""))
+            .andExpect(jsonPath("$.line.title").value(UPDATED_TITLE));
+    }
+
+    @Test
+    @Transactional
+    void putCardWithCurrentIfMatch() throws Exception {
+        // Initialize the database
+        cardRepository.saveAndFlush(card);
+        String eTag = "\"" + card.getVersion() + "\"";
+
+        Card updatedCard = cardRepository.findById(card.getId()).get();
+        em.detach(updatedCard);
+        updatedCard.title(UPDATED_TITLE).setVersion(null);
+
+        restCardMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, updatedCard.getId())
+                    .header(HttpHeaders.IF_MATCH, eTag)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(updatedCard))
+            )
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG));
+
+        assertThat(cardRepository.findById(card.getId()).get().getTitle()).isEqualTo(UPDATED_TITLE);
+    }
+
+    @Test
+    @Transactional
+    void putCardWithStaleIfMatch() throws Exception {
+        // Initialize the database
+        cardRepository.saveAndFlush(card);
+
+        Card updatedCard = cardRepository.findById(card.getId()).get();
+        em.detach(updatedCard);
+        updatedCard.title(UPDATED_TITLE);
+
+        restCardMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, updatedCard.getId())
+                    .header(HttpHeaders.IF_MATCH, "\"" + (card.getVersion() + 1) + "\"")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(updatedCard))
+            )
+            .andExpect(status().isPreconditionFailed())
+            .andExpect(jsonPath("$.message").value("error.preconditionFailed"));
+
+        assertThat(cardRepository.findById(card.getId()).get().getTitle()).isEqualTo(DEFAULT_TITLE);
+    }
+
+    @Test
+    @Transactional
+    void putCardWithStaleVersion() throws Exception {
+        // Initialize the database
+        cardRepository.saveAndFlush(card);
+
+        Card updatedCard = cardRepository.findById(card.getId()).get();
+        em.detach(updatedCard);
+        updatedCard.title(UPDATED_TITLE).setVersion(card.getVersion() + 1);
+
+        restCardMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, updatedCard.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(updatedCard))
+            )
+            .andExpect(status().isConflict());
+    }
+
+    @Test
+    @Transactional
+    void patchCardWithStaleVersion() throws Exception {
+        // Initialize the database
+        cardRepository.saveAndFlush(card);
+
+        Card partialUpdatedCard = new Card();
+        partialUpdatedCard.setId(card.getId());
+        partialUpdatedCard.title(UPDATED_TITLE).setVersion(card.getVersion() + 1);
+
+        restCardMockMvc
+            .perform(
+                patch(ENTITY_API_URL_ID, partialUpdatedCard.getId())
+                    .contentType("application/merge-patch+json")
+                    .content(TestUtil.convertObjectToJsonBytes(partialUpdatedCard))
+            )
+            .andExpect(status().isConflict());
+    }
+
+    @Test
+    @Transactional
+    void createCardAfterLastCardOfLine() throws Exception {
+        Line line = persistLine();
+        cardRepository.saveAndFlush(createEntity(em).line(line).position(3 * CardPositionService.GAP));
+
+        restCardMockMvc
+            .perform(
+                post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(TestUtil.convertObjectToJsonBytes(card.line(line)))
+            )
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.position").value(4 * CardPositionService.GAP));
+    }
+
+    @Test
+    @Transactional
+    void moveCardBetweenCards() throws Exception {
+        Line line = persistLine();
+        Card first = cardRepository.saveAndFlush(createEntity(em).line(line).position(CardPositionService.GAP));
+        Card second = cardRepository.saveAndFlush(createEntity(em).line(line).position(2 * CardPositionService.GAP));
+        Card third = cardRepository.saveAndFlush(createEntity(em).line(line).position(3 * CardPositionService.GAP));
+        String eTag = "\"" + third.getVersion() + "-" + line.getVersion() + "\"";
+
+        restCardMockMvc
+            .perform(
+                post(ENTITY_API_URL_ID + "/move", third.getId())
+                    .header(HttpHeaders.IF_MATCH, eTag)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(move(line, first))
+            )
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andExpect(jsonPath("$.position").value(1.5 * CardPositionService.GAP));
+
+        assertThat(cardRepository.findById(second.getId()).get().getPosition()).isEqualTo(2 * CardPositionService.GAP);
+    }
+
+    @Test
+    @Transactional
+    void moveCardFirstOfAnotherLine() throws Exception {
+        Line line = persistLine();
+        Line otherLine = persistLine();
+        Card moved = cardRepository.saveAndFlush(createEntity(em).line(line).position(CardPositionService.GAP));
+        cardRepository.saveAndFlush(createEntity(em).line(otherLine).position(CardPositionService.GAP));
+
+        restCardMockMvc
+            .perform(
+                post(ENTITY_API_URL_ID + "/move", moved.getId()).contentType(MediaType.APPLICATION_JSON).content(move(otherLine, null))
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.position").value(0.0))
+            .andExpect(jsonPath("$.line.id").value(otherLine.getId()));
+    }
+
+    @Test
+    @Transactional
+    void moveCardWithoutRoomRebalancesLine() throws Exception {
+        Line line = persistLine();
+        Card first = cardRepository.saveAndFlush(createEntity(em).line(line).position(1.0));
+        Card second = cardRepository.saveAndFlush(createEntity(em).line(line).position(Math.nextUp(1.0)));
+        Card third = cardRepository.saveAndFlush(createEntity(em).line(line).position(2.0));
+
+        restCardMockMvc
+            .perform(post(ENTITY_API_URL_ID + "/move", third.getId()).contentType(MediaType.APPLICATION_JSON).content(move(line, first)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.position").value(1.5 * CardPositionService.GAP));
+
+        assertThat(cardRepository.findById(first.getId()).get().getPosition()).isEqualTo(CardPositionService.GAP);
+        assertThat(cardRepository.findById(second.getId()).get().getPosition()).isEqualTo(2 * CardPositionService.GAP);
+    }
+
+    @Test
+    @Transactional
+    void moveCardAfterCardOfAnotherLine() throws Exception {
+        Line line = persistLine();
+        Line otherLine = persistLine();
+        Card moved = cardRepository.saveAndFlush(createEntity(em).line(line).position(CardPositionService.GAP));
+        Card after = cardRepository.saveAndFlush(createEntity(em).line(otherLine).position(CardPositionService.GAP));
+
+        restCardMockMvc
+            .perform(post(ENTITY_API_URL_ID + "/move", moved.getId()).contentType(MediaType.APPLICATION_JSON).content(move(line, after)))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("error.afterinvalid"));
+
+        assertThat(moved.getLine().getId()).isEqualTo(line.getId());
+        assertThat(moved.getPosition()).isEqualTo(CardPositionService.GAP);
+    }
+
+    @Test
+    @Transactional
+    void moveCardAfterItself() throws Exception {
+        Line line = persistLine();
+        Card moved = cardRepository.saveAndFlush(createEntity(em).line(line).position(CardPositionService.GAP));
+
+        restCardMockMvc
+            .perform(post(ENTITY_API_URL_ID + "/move", moved.getId()).contentType(MediaType.APPLICATION_JSON).content(move(line, moved)))
+            .andExpect(status().isBadRequest());
+
+        assertThat(moved.getPosition()).isEqualTo(CardPositionService.GAP);
+    }
+
+    @Test
+    @Transactional
+    void moveCardWithStaleIfMatch() throws Exception {
+        Line line = persistLine();
+        Card moved = cardRepository.saveAndFlush(createEntity(em).line(line).position(CardPositionService.GAP));
+
+        restCardMockMvc
+            .perform(
+                post(ENTITY_API_URL_ID + "/move", moved.getId())
+                    .header(HttpHeaders.IF_MATCH, "\"" + (moved.getVersion() + 1) + "\"")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(move(line, null))
+            )
+            .andExpect(status().isPreconditionFailed());
+    }
+
+    private Line persistLine() {
+        Line line = LineResourceIT.createEntity(em);
+        em.persist(line);
+        em.flush();
+        return line;
+    }
+
+    private static byte[] move(Line line, Card after) throws Exception {
+        CardMoveDTO move = new CardMoveDTO();
+        move.setLineId(line.getId());
+        move.setAfterId(after == null ? null : after.getId());
+        return TestUtil.convertObjectToJsonBytes(move);
+    }
+
     @Test
     @Transactional
     void putNonExistingCard() throws Exception {
@@ -686,4 +1188,81 @@ class CardResourceIT {
         List<Card> cardList = cardRepository.findAll();
         assertThat(cardList).hasSize(databaseSizeBeforeDelete - 1);
     }
+
+    @Test
+    @Transactional
+    void createCardsInBulk() throws Exception {
+        int databaseSizeBeforeCreate = cardRepository.findAll().size();
+        Card other = createUpdatedEntity(em);
+        Card withId = createEntity(em).id(count.incrementAndGet());
+
+        // Create the Cards, the one with an id must be rejected on its own
+        restCardMockMvc
+            .perform(
+                post(ENTITY_API_URL_BULK)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(List.of(card, withId, other)))
+            )
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.length()").value(3))
+            .andExpect(jsonPath("$[0].index").value(0))
+            .andExpect(jsonPath("$[0].status").value("CREATED"))
+            .andExpect(jsonPath("$[0].id").isNumber())
+            .andExpect(jsonPath("$[1].status").value("INVALID"))
+            .andExpect(jsonPath("$[2].status").value("CREATED"));
+
+        // Validate the Cards in the database
+        List<Card> cardList = cardRepository.findAll();
+        assertThat(cardList).hasSize(databaseSizeBeforeCreate + 2);
+        assertThat(cardList).extracting(Card::getTitle).contains(DEFAULT_TITLE, UPDATED_TITLE);
+    }
+
+    @Test
+    @Transactional
+    void updateCardsInBulk() throws Exception {
+        // Initialize the database
+        cardRepository.saveAndFlush(card);
+        em.detach(card);
+        card.title(UPDATED_TITLE).level(UPDATED_LEVEL).desc(UPDATED_DESC);
+        Card missing = createEntity(em).id(count.incrementAndGet());
+
+        restCardMockMvc
+            .perform(
+                put(ENTITY_API_URL_BULK).contentType(MediaType.APPLICATION_JSON).content(TestUtil.convertObjectToJsonBytes(List.of(card, missing)))
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].id").value(card.getId().intValue()))
+            .andExpect(jsonPath("$[0].status").value("UPDATED"))
+            .andExpect(jsonPath("$[1].status").value("NOT_FOUND"));
+
+        // Validate the Card in the database
+        Card testCard = cardRepository.findById(card.getId()).get();
+        assertThat(testCard.getTitle()).isEqualTo(UPDATED_TITLE);
+        assertThat(testCard.getLevel()).isEqualTo(UPDATED_LEVEL);
+        assertThat(testCard.getDesc()).isEqualTo(UPDATED_DESC);
+    }
+
+    @Test
+    @Transactional
+    void deleteCardsInBulk() throws Exception {
+        // Initialize the database
+        cardRepository.saveAndFlush(card);
+
+        int databaseSizeBeforeDelete = cardRepository.findAll().size();
+
+        restCardMockMvc
+            .perform(
+                delete(ENTITY_API_URL_BULK)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(List.of(card.getId(), count.incrementAndGet())))
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].status").value("DELETED"))
+            .andExpect(jsonPath("$[1].status").value("NOT_FOUND"));
+
+        // Validate the database contains one less item
+        List<Card> cardList = cardRepository.findAll();
+        assertThat(cardList).hasSize(databaseSizeBeforeDelete - 1);
+    }
 }
@@ -1,6 +1,8 @@
 package com.mycompany.myapp.web.rest;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItem;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -18,6 +20,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -127,6 +130,77 @@ class LineResourceIT {
             .andExpect(jsonPath("$.[*].title").value(hasItem(DEFAULT_TITLE)));
     }
 
+    @Test
+    @Transactional
+    void getAllLinesWithoutCount() throws Exception {
+        // Initialize the database
+        lineRepository.saveAndFlush(createEntity(em).title("slice"));
+        lineRepository.saveAndFlush(createEntity(em).title("slice"));
+
+        restLineMockMvc
+            .perform(get(ENTITY_API_URL + "?title.equals=slice&count=NONE&size=1&sort=id,asc"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(header().string("X-Has-Next-Page", "true"))
+            .andExpect(header().string(HttpHeaders.LINK, containsString("rel=\"next\"")))
+            .andExpect(header().doesNotExist("X-Total-Count"));
+
+        restLineMockMvc
+            .perform(get(ENTITY_API_URL + "?title.equals=slice&count=NONE&size=1&page=1&sort=id,asc"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(header().string("X-Has-Next-Page", "false"))
+            .andExpect(header().string(HttpHeaders.LINK, containsString("rel=\"prev\"")));
+    }
+
+    @Test
+    @Transactional
+    void getAllLinesWithEstimatedCount() throws Exception {
+        // Initialize the database
+        lineRepository.saveAndFlush(createEntity(em).title("estimated"));
+        lineRepository.saveAndFlush(createEntity(em).title("estimated"));
+
+        // A filtered listing is always counted
+        restLineMockMvc
+            .perform(get(ENTITY_API_URL + "?title.equals=estimated&count=ESTIMATED&size=1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(header().string("X-Total-Count", "2"));
+
+        // H2 has no planner statistics, so the unfiltered listing falls back to counting as well
+        restLineMockMvc
+            .perform(get(ENTITY_API_URL + "?count=ESTIMATED&size=1"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Total-Count", String.valueOf(lineRepository.count())));
+    }
+
+    @Test
+    @Transactional
+    void getAllLinesWithKeysetPagination() throws Exception {
+        // Initialize the database
+        Line first = lineRepository.saveAndFlush(createEntity(em).title("keyset"));
+        Line second = lineRepository.saveAndFlush(createEntity(em).title("keyset"));
+        Line third = lineRepository.saveAndFlush(createEntity(em).title("keyset"));
+
+        // The first slice links to the next one and has no total count
+        restLineMockMvc
+            .perform(get(ENTITY_API_URL + "?title.equals=keyset&size=2&after=" + (first.getId() - 1)))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(contains(first.getId().intValue(), second.getId().intValue())))
+            .andExpect(header().string("X-Has-Next-Page", "true"))
+            .andExpect(header().string(HttpHeaders.LINK, containsString("after=" + second.getId())))
+            .andExpect(header().doesNotExist("X-Total-Count"));
+
+        // The last slice has no next link
+        restLineMockMvc
+            .perform(get(ENTITY_API_URL + "?title.equals=keyset&size=2&after=" + second.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(contains(third.getId().intValue())))
+            .andExpect(header().string("X-Has-Next-Page", "false"))
+            .andExpect(header().doesNotExist(HttpHeaders.LINK));
+    }
+
     @Test
     @Transactional
     void getLine() throws Exception {
@@ -322,6 +396,45 @@ class LineResourceIT {
         assertThat(testLine.getTitle()).isEqualTo(UPDATED_TITLE);
     }
 
+    @Test
+    @Transactional
+    void getLineWithETag() throws Exception {
+        // Initialize the database
+        lineRepository.saveAndFlush(line);
+        String eTag = "\"" + line.getVersion() + "\"";
+
+        restLineMockMvc
+            .perform(get(ENTITY_API_URL_ID, line.getId()))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, eTag));
+
+        restLineMockMvc
+            .perform(get(ENTITY_API_URL_ID, line.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @Transactional
+    void getLineWithETagChangedByItsBoard() throws Exception {
+        // Initialize the database
+        Board board = BoardResourceIT.createEntity(em);
+        em.persist(board);
+        lineRepository.saveAndFlush(line.board(board));
+        String eTag = "\"" + line.getVersion() + "-" + board.getVersion() + "\"";
+
+        restLineMockMvc.perform(get(ENTITY_API_URL_ID, line.getId())).andExpect(header().string(HttpHeaders.ETAG, eTag));
+
+        // Rename the board, which the line embeds
+        board.setTitle(UPDATED_TITLE);
+        em.flush();
+
+        restLineMockMvc
+            .perform(get(ENTITY_API_URL_ID, line.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + line.getVersion() + "-" + board.getVersion() + "\""))
+            .andExpect(jsonPath("$.board.title").value(UPDATED_TITLE));
+    }
+
     @Test
     @Transactional
     void putNonExistingLine() throws Exception {
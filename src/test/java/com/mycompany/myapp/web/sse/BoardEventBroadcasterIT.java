@@ -0,0 +1,76 @@
+package com.mycompany.myapp.web.sse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.Board;
+import com.mycompany.myapp.domain.Card;
+import com.mycompany.myapp.domain.Line;
+import com.mycompany.myapp.repository.BoardRepository;
+import com.mycompany.myapp.repository.LineRepository;
+import com.mycompany.myapp.service.CardService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+/**
+ * Integration tests for the events of {@code GET /api/boards/:id/events}.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser
+class BoardEventBroadcasterIT {
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private LineRepository lineRepository;
+
+    @Autowired
+    private CardService cardService;
+
+    @Autowired
+    private MockMvc restMockMvc;
+
+    @Test
+    void committedChangesArePushed() throws Exception {
+        // Not transactional: the events are only published once committed
+        Board board = boardRepository.saveAndFlush(new Board().title("events"));
+        Line line = lineRepository.saveAndFlush(new Line().title("events").board(board));
+        Card card = null;
+        try {
+            MvcResult result = restMockMvc
+                .perform(get("/api/boards/{id}/events", board.getId()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+            card = cardService.save(new Card().title("events").line(line));
+
+            String expected = "\"type\":\"CREATED\",\"entityType\":\"CARD\",\"id\":" + card.getId() + ",\"boardId\":" + board.getId();
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (!result.getResponse().getContentAsString().contains(expected) && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+            assertThat(result.getResponse().getContentAsString()).contains("data:{" + expected + "}");
+            assertThat(result.getResponse().getContentType()).startsWith("text/event-stream");
+        } finally {
+            if (card != null) {
+                cardService.delete(card.getId());
+            }
+            lineRepository.deleteById(line.getId());
+            boardRepository.deleteById(board.getId());
+        }
+    }
+
+    @Test
+    void watchNonExistingBoard() throws Exception {
+        restMockMvc.perform(get("/api/boards/{id}/events", Long.MAX_VALUE)).andExpect(status().isNotFound());
+    }
+}
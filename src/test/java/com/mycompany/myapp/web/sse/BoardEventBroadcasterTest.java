@@ -0,0 +1,116 @@
+package com.mycompany.myapp.web.sse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.enumeration.BoardItemType;
+import com.mycompany.myapp.service.dto.BoardEventDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class BoardEventBroadcasterTest {
+
+    private final List<Runnable> pendingTasks = new ArrayList<>();
+
+    private MeterRegistry meterRegistry;
+
+    private ApplicationProperties applicationProperties;
+
+    private BoardEventBroadcaster broadcaster;
+
+    @BeforeEach
+    public void setup() {
+        applicationProperties = new ApplicationProperties();
+        applicationProperties.getEvents().setQueueCapacity(2);
+        meterRegistry = new SimpleMeterRegistry();
+        // tasks are not run: the client never catches up
+        broadcaster = new BoardEventBroadcaster(pendingTasks::add, applicationProperties, meterRegistry);
+    }
+
+    @Test
+    void slowSubscriberIsDisconnected() {
+        broadcaster.subscribe(1L);
+        assertThat(subscribers()).isEqualTo(1);
+
+        broadcaster.onBoardEvent(event(1L));
+        broadcaster.onBoardEvent(event(1L));
+        assertThat(subscribers()).isEqualTo(1);
+
+        broadcaster.onBoardEvent(event(1L));
+        assertThat(subscribers()).isZero();
+        assertThat(meterRegistry.get("board.events.overflows").counter().count()).isEqualTo(1);
+        // a single sending task per subscriber at a time
+        assertThat(pendingTasks).hasSize(1);
+    }
+
+    @Test
+    void eventsOfOtherBoardsAreNotQueued() {
+        broadcaster.subscribe(1L);
+
+        for (int i = 0; i < 10; i++) {
+            broadcaster.onBoardEvent(event(2L));
+        }
+
+        assertThat(subscribers()).isEqualTo(1);
+        assertThat(meterRegistry.get("board.events.overflows").counter().count()).isZero();
+    }
+
+    @Test
+    void blockedSubscriberIsDisconnected() throws Exception {
+        applicationProperties.getEvents().setSendTimeout(Duration.ofMillis(1));
+        CountDownLatch sending = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        BoardEventBroadcaster blockingBroadcaster = new BoardEventBroadcaster(executor, applicationProperties, meterRegistry) {
+            @Override
+            SseEmitter newEmitter(long timeout) {
+                return new SseEmitter(timeout) {
+                    @Override
+                    public void send(SseEventBuilder builder) throws IOException {
+                        // a client which stopped reading: the write blocks until interrupted
+                        sending.countDown();
+                        try {
+                            Thread.sleep(Long.MAX_VALUE);
+                        } catch (InterruptedException e) {
+                            throw new InterruptedIOException();
+                        }
+                    }
+                };
+            }
+        };
+        try {
+            blockingBroadcaster.subscribe(1L);
+            assertThat(sending.await(10, TimeUnit.SECONDS)).isTrue();
+            Thread.sleep(10);
+
+            blockingBroadcaster.heartbeat();
+
+            assertThat(subscribers()).isZero();
+            assertThat(meterRegistry.get("board.events.send-timeouts").counter().count()).isEqualTo(1);
+            // the sending thread is released, and can send to the other clients
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private double subscribers() {
+        return meterRegistry.get("board.events.subscribers").gauge().value();
+    }
+
+    private static BoardEventDTO event(Long boardId) {
+        return new BoardEventDTO(BoardEventDTO.Type.UPDATED, BoardItemType.CARD, 1L, boardId);
+    }
+}